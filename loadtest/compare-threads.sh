@@ -0,0 +1,68 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 vs 가상 스레드 비교 (같은 빌드 / 같은 DB / 같은 부하)
+# ------------------------------------------------------------
+# 1. Flask 대역을 띄우고 (지연 고정)
+# 2. 서버를 VIRTUAL_THREADS=false / true 로 한 번씩 실행하며 loadtest/mixed-load.js 실행
+# 3. 처리량(http_reqs/s)과 트래킹/경로 생성 p99를 표로 출력
+#
+# 필요: k6, jq, python3, DB_URL / DB_USER / DB_PASSWORD 환경 변수
+# 실행:
+#   ./loadtest/compare-threads.sh
+#   RUNNERS=800 ROUTE_RATE=20 HOLD=5m FLASK_DELAY_MS=10000 ./loadtest/compare-threads.sh
+#
+# 결과 JSON: loadtest/results/{platform,virtual}.json
+# ⚠️ 두 실행 사이에 세션/경로 행이 쌓이므로 같은 조건 비교가 필요하면 DB를 초기화하고 다시 실행
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+BASE_URL=${BASE_URL:-http://localhost:8080}
+OUT=loadtest/results
+mkdir -p "$OUT"
+
+export FLASK_DELAY_MS=${FLASK_DELAY_MS:-3000}
+python3 loadtest/flask-stub.py &
+STUB_PID=$!
+APP_PID=
+cleanup() {
+    [ -n "$APP_PID" ] && kill "$APP_PID" 2>/dev/null || true
+    kill "$STUB_PID" 2>/dev/null || true
+}
+trap cleanup EXIT
+
+./gradlew -q bootJar
+JAR=$(ls build/libs/*.jar | grep -v plain | head -1)
+
+run() {
+    local mode=$1 virtual=$2
+    echo "== $mode (spring.threads.virtual.enabled=$virtual)"
+    VIRTUAL_THREADS=$virtual java -XX:StartFlightRecording:filename="$OUT/$mode.jfr",settings=profile \
+        -Dlogging.level.org.hibernate.SQL=WARN \
+        -Dlogging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN \
+        -Dlogging.level.com.aidredaline=INFO \
+        -jar "$JAR" > "$OUT/$mode.log" 2>&1 &
+    APP_PID=$!
+
+    until curl -sf "$BASE_URL/actuator/health" > /dev/null; do sleep 2; done
+
+    k6 run -e BASE_URL="$BASE_URL" --summary-export="$OUT/$mode.json" loadtest/mixed-load.js || true
+
+    kill "$APP_PID"
+    wait "$APP_PID" 2>/dev/null || true
+    APP_PID=
+}
+
+run platform false
+run virtual true
+
+printf '\n%-10s %12s %14s %14s %14s %8s\n' mode 'req/s' 'track p99(ms)' 'track p95(ms)' 'route p99(ms)' errors
+for mode in platform virtual; do
+    jq -r --arg mode "$mode" '[
+        $mode,
+        (.metrics.http_reqs.rate | floor),
+        (.metrics.track_latency["p(99)"] | floor),
+        (.metrics.track_latency["p(95)"] | floor),
+        ((.metrics.route_latency["p(99)"] // 0) | floor),
+        (.metrics.mixed_errors.count // 0)
+    ] | @tsv' "$OUT/$mode.json" | awk -F'\t' '{ printf "%-10s %12s %14s %14s %14s %8s\n", $1, $2, $3, $4, $5, $6 }'
+done
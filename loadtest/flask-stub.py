@@ -0,0 +1,84 @@
+"""
+부하 테스트용 Flask 대역 (POST /routes/generate)
+------------------------------------------------------------
+실제 경로 생성 대신 정해진 시간만큼 대기한 뒤 원형 경로를 돌려줌 → 결과가 Flask 성능에 흔들리지 않음
+- FLASK_DELAY_MS      : 응답 지연 평균 (기본 3000)
+- FLASK_DELAY_JITTER  : 지연 편차 비율 (기본 0.3 → ±30%)
+- PORT                : 기본 5001 (application.yml flask.server.url과 같게)
+
+실행: python3 loadtest/flask-stub.py
+"""
+import json
+import math
+import os
+import random
+import time
+from http.server import BaseHTTPRequestHandler, ThreadingHTTPServer
+
+DELAY_MS = int(os.environ.get("FLASK_DELAY_MS", "3000"))
+JITTER = float(os.environ.get("FLASK_DELAY_JITTER", "0.3"))
+PORT = int(os.environ.get("PORT", "5001"))
+
+
+def circle(lat, lng, target_km):
+    n = max(int(target_km * 20), 8)
+    radius = (target_km / (2 * math.pi)) * 0.009
+    points = [[lng, lat]]
+    for i in range(1, n):
+        angle = i * 2 * math.pi / n
+        points.append([lng + radius * math.cos(angle), lat + radius * math.sin(angle)])
+    points.append([lng, lat])
+    return points
+
+
+class Handler(BaseHTTPRequestHandler):
+    protocol_version = "HTTP/1.1"
+
+    def do_POST(self):
+        if self.path != "/routes/generate":
+            self.send_error(404)
+            return
+        body = json.loads(self.rfile.read(int(self.headers.get("Content-Length", 0))) or b"{}")
+        start = body.get("start_point") or {}
+        target_km = float(body.get("target_km") or 5.0)
+
+        time.sleep(DELAY_MS * (1 + random.uniform(-JITTER, JITTER)) / 1000.0)
+
+        points = circle(float(start.get("lat", 33.4996)), float(start.get("lng", 126.5312)), target_km)
+        payload = json.dumps({
+            "ok": True,
+            "data": {
+                "geojson": {
+                    "type": "FeatureCollection",
+                    "features": [{
+                        "type": "Feature",
+                        "properties": {"name": "stub"},
+                        "geometry": {"type": "LineString", "coordinates": points},
+                    }],
+                },
+                "metrics": {
+                    "target_km": target_km,
+                    "route_length_m": target_km * 1000,
+                    "nodes": len(points),
+                    "scale_m_per_unit": 50.0,
+                },
+                "template_points": points,
+                "route_points": points,
+                "final_points": points,
+                "guidance": {"guidance_points": []},
+            },
+        }).encode()
+
+        self.send_response(200)
+        self.send_header("Content-Type", "application/json")
+        self.send_header("Content-Length", str(len(payload)))
+        self.end_headers()
+        self.wfile.write(payload)
+
+    def log_message(self, fmt, *args):
+        pass
+
+
+if __name__ == "__main__":
+    print(f"flask stub on :{PORT}, delay={DELAY_MS}ms ±{int(JITTER * 100)}%")
+    ThreadingHTTPServer(("0.0.0.0", PORT), Handler).serve_forever()
@@ -0,0 +1,120 @@
+// 트래킹 + 경로 생성 혼합 부하 테스트 (k6) - 플랫폼 스레드 vs 가상 스레드 비교용
+// ------------------------------------------------------------
+// - tracking : 러너마다 세션을 시작하고 HTTP로 1초에 포인트 1개씩 전송 (짧은 JDBC 위주 요청)
+// - routes   : 일정 비율로 경로 생성 요청 (Flask 응답 대기로 오래 블로킹되는 요청)
+// 느린 Flask 호출이 요청 스레드를 오래 점유할 때 트래킹 지연(p99)이 얼마나 버티는지 보는 것이 목적
+//
+// 실행 (서버는 미리 띄워 둠, 보통 loadtest/compare-threads.sh로 두 모드를 연달아 실행):
+//   k6 run -e BASE_URL=http://localhost:8080 loadtest/mixed-load.js
+//   k6 run -e RUNNERS=800 -e ROUTE_RATE=20 -e HOLD=5m loadtest/mixed-load.js
+//
+// 결과 해석:
+//   - track_latency p99    : 포인트 1건 저장 지연 (경로 생성 부하와 섞였을 때)
+//   - route_latency p99    : 경로 생성 지연 (Flask 지연 + 저장)
+//   - http_reqs / 초       : 전체 처리량
+//   - mixed_errors         : 2xx가 아닌 응답 수
+//   서버 쪽은 /actuator/metrics/jvm.threads.live, hikaricp.connections.pending,
+//   jvm.threads.virtual.pinned (가상 스레드 모드) 같이 확인
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { Counter, Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const RUNNERS = parseInt(__ENV.RUNNERS || '400');
+const ROUTE_RATE = parseInt(__ENV.ROUTE_RATE || '10');       // 초당 경로 생성 요청 수
+const HOLD = __ENV.HOLD || '3m';
+const FIX_INTERVAL_S = parseFloat(__ENV.FIX_INTERVAL_S || '1');
+const FIXES_PER_RUN = parseInt(__ENV.FIXES_PER_RUN || '120');
+const TEMPLATE_ID = parseInt(__ENV.TEMPLATE_ID || '1');
+
+const trackLatency = new Trend('track_latency', true);
+const routeLatency = new Trend('route_latency', true);
+const errors = new Counter('mixed_errors');
+
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+export const options = {
+    scenarios: {
+        tracking: {
+            executor: 'ramping-vus',
+            exec: 'tracking',
+            startVUs: 0,
+            stages: [
+                { duration: '1m', target: RUNNERS },
+                { duration: HOLD, target: RUNNERS },
+                { duration: '30s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+        routes: {
+            executor: 'constant-arrival-rate',
+            exec: 'routes',
+            rate: ROUTE_RATE,
+            timeUnit: '1s',
+            duration: HOLD,
+            startTime: '1m',
+            preAllocatedVUs: ROUTE_RATE * 10,
+            maxVUs: ROUTE_RATE * 70,   // Flask 최대 60초 대기를 견딜 만큼
+        },
+    },
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        track_latency: ['p(99)<500'],
+        mixed_errors: ['count<1'],
+    },
+};
+
+function record(res, trend, name) {
+    trend.add(res.timings.duration);
+    const ok = check(res, { [name]: (r) => r.status >= 200 && r.status < 300 });
+    if (!ok) errors.add(1);
+    return ok;
+}
+
+export function tracking() {
+    const res = http.post(`${BASE_URL}/api/running-sessions/start`, JSON.stringify({
+        userId: parseInt(__ENV.USER_ID || '1'),
+        routeId: parseInt(__ENV.ROUTE_ID || '1'),
+        startLat: 33.4996,
+        startLng: 126.5312,
+    }), JSON_HEADERS);
+    if (!check(res, { 'session started': (r) => r.status === 200 })) {
+        errors.add(1);
+        sleep(1);
+        return;
+    }
+    const sessionId = res.json('sessionId');
+
+    let lat = 33.4996 + (Math.random() - 0.5) * 0.01;
+    let lng = 126.5312 + (Math.random() - 0.5) * 0.01;
+    for (let i = 0; i < FIXES_PER_RUN; i++) {
+        // 약 3m/s로 이동
+        lat += (Math.random() - 0.3) * 0.00004;
+        lng += (Math.random() - 0.3) * 0.00004;
+        const fix = http.post(`${BASE_URL}/api/running-sessions/${sessionId}/tracking`, JSON.stringify({
+            lat: lat,
+            lng: lng,
+            speed: 3.0,
+            altitude: 12.5,
+            accuracy: 5.0,
+            recordedAt: new Date().toISOString(),
+        }), Object.assign({ tags: { name: 'track' } }, JSON_HEADERS));
+        record(fix, trackLatency, 'fix accepted');
+        sleep(FIX_INTERVAL_S);
+    }
+
+    http.post(`${BASE_URL}/api/running-sessions/${sessionId}/complete`, null, { tags: { name: 'complete' } });
+}
+
+export function routes() {
+    const res = http.post(`${BASE_URL}/api/routes/generate`, JSON.stringify({
+        userId: 1,
+        templateId: TEMPLATE_ID,
+        startPoint: {
+            latitude: 33.4996 + (Math.random() - 0.5) * 0.02,
+            longitude: 126.5312 + (Math.random() - 0.5) * 0.02,
+        },
+        targetDistance: 5.0,
+    }), Object.assign({ tags: { name: 'route' }, timeout: '90s' }, JSON_HEADERS));
+    record(res, routeLatency, 'route generated');
+}
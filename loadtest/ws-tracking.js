@@ -0,0 +1,114 @@
+// 실시간 트래킹 WebSocket 부하 테스트 (k6)
+// ------------------------------------------------------------
+// 가상 러너(VU)마다 세션을 시작하고 WebSocket으로 1초에 포인트 1개씩 전송, ACK 지연을 측정
+//
+// 실행:
+//   k6 run -e BASE_URL=http://localhost:8080 -e USER_ID=1 -e ROUTE_ID=1 loadtest/ws-tracking.js
+//   k6 run -e RUNNERS=2000 -e HOLD=5m loadtest/ws-tracking.js      # 연결 수 늘리기
+//
+// 결과 해석:
+//   - ws_fixes_sent / 초  : 노드가 처리한 초당 포인트 수
+//   - ws_ack_latency p95  : 프레임 전송 ~ ACK 수신 (서버 처리 + 왕복)
+//   - ws_errors           : ERROR 이벤트 / 비정상 종료 수 (0 이어야 함)
+//   서버 쪽은 /actuator/metrics/ws.tracking.connections, gps.buffer.depth, gps.buffer.flush.latency 같이 확인
+import http from 'k6/http';
+import ws from 'k6/ws';
+import { check } from 'k6';
+import { Counter, Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const WS_URL = BASE_URL.replace(/^http/, 'ws');
+const RUNNERS = parseInt(__ENV.RUNNERS || '500');
+const HOLD = __ENV.HOLD || '3m';
+const FIX_INTERVAL_MS = parseInt(__ENV.FIX_INTERVAL_MS || '1000');
+
+const fixesSent = new Counter('ws_fixes_sent');
+const ackLatency = new Trend('ws_ack_latency', true);
+const errors = new Counter('ws_errors');
+
+export const options = {
+    scenarios: {
+        runners: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '1m', target: RUNNERS },
+                { duration: HOLD, target: RUNNERS },
+                { duration: '30s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    thresholds: {
+        ws_ack_latency: ['p(95)<200'],
+        ws_errors: ['count<1'],
+    },
+};
+
+// TrackingFrameCodec: int64 epochMs, float64 lat, float64 lng, float32 speed, altitude, accuracy (big-endian)
+const FIX_BYTES = 36;
+
+function frame(epochMs, lat, lng, speed, altitude, accuracy) {
+    const buf = new ArrayBuffer(FIX_BYTES);
+    const view = new DataView(buf);
+    view.setBigInt64(0, BigInt(epochMs));
+    view.setFloat64(8, lat);
+    view.setFloat64(16, lng);
+    view.setFloat32(24, speed);
+    view.setFloat32(28, altitude);
+    view.setFloat32(32, accuracy);
+    return buf;
+}
+
+function startSession() {
+    const res = http.post(`${BASE_URL}/api/running-sessions/start`, JSON.stringify({
+        userId: parseInt(__ENV.USER_ID || '1'),
+        routeId: parseInt(__ENV.ROUTE_ID || '1'),
+        startLat: 33.4996,
+        startLng: 126.5312,
+    }), { headers: { 'Content-Type': 'application/json' } });
+    check(res, { 'session started': (r) => r.status === 200 });
+    return res.json('sessionId');
+}
+
+export default function () {
+    const sessionId = startSession();
+    if (!sessionId) {
+        errors.add(1);
+        return;
+    }
+
+    let lat = 33.4996 + (Math.random() - 0.5) * 0.01;
+    let lng = 126.5312 + (Math.random() - 0.5) * 0.01;
+    const pending = [];
+
+    ws.connect(`${WS_URL}/ws/running-sessions/${sessionId}/tracking`, {}, (socket) => {
+        socket.on('open', () => {
+            socket.setInterval(() => {
+                // 약 3m/s로 이동
+                lat += (Math.random() - 0.3) * 0.00004;
+                lng += (Math.random() - 0.3) * 0.00004;
+                pending.push(Date.now());
+                socket.sendBinary(frame(Date.now(), lat, lng, 3.0, 12.5, 5.0));
+                fixesSent.add(1);
+            }, FIX_INTERVAL_MS);
+        });
+
+        socket.on('message', (msg) => {
+            const event = JSON.parse(msg);
+            if (event.type === 'ACK') {
+                const sentAt = pending.shift();
+                if (sentAt) ackLatency.add(Date.now() - sentAt);
+            } else if (event.type === 'ERROR') {
+                errors.add(1);
+            }
+        });
+
+        socket.on('error', () => errors.add(1));
+
+        // VU 한 번 = 러닝 한 번 (60~120초)
+        socket.setTimeout(() => socket.close(), 60000 + Math.random() * 60000);
+    });
+
+    http.post(`${BASE_URL}/api/running-sessions/${sessionId}/complete`);
+}
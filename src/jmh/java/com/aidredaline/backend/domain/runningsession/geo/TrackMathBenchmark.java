@@ -0,0 +1,90 @@
+package com.aidredaline.backend.domain.runningsession.geo;
+
+import com.aidredaline.backend.domain.runningsession.analysis.TrackAggregator;
+import com.aidredaline.backend.domain.runningsession.live.TrackTotals;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TrackAggregator(원시 타입 + Kahan, 실제 분석/완료 경로) vs 기존 BigDecimal 경로 비교
+ * - 실행: ./gradlew jmh (결과: build/results/jmh/results.json)
+ * - 트랙: 1Hz, 약 3m/s로 이동하는 랜덤 워크 (제주시청 부근)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TrackMathBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int points;
+
+    private double[] lat;
+    private double[] lng;
+    private long[] time;
+    private double[] speed;
+
+    // 기존 경로 입력 (JTS Point + BigDecimal 속도)
+    private Point[] locations;
+    private BigDecimal[] speeds;
+
+    @Setup
+    public void setUp() {
+        GeometryFactory gf = new GeometryFactory(new PrecisionModel(), 4326);
+        Random random = new Random(42);
+
+        lat = new double[points];
+        lng = new double[points];
+        time = new long[points];
+        speed = new double[points];
+        locations = new Point[points];
+        speeds = new BigDecimal[points];
+
+        double curLat = 33.4996;
+        double curLng = 126.5312;
+        for (int i = 0; i < points; i++) {
+            curLat += (random.nextDouble() - 0.5) * 0.00005;
+            curLng += (random.nextDouble() - 0.5) * 0.00005;
+            lat[i] = curLat;
+            lng[i] = curLng;
+            time[i] = 1_700_000_000_000L + i * 1000L;
+            speed[i] = 2.5 + random.nextDouble();
+            locations[i] = gf.createPoint(new Coordinate(curLng, curLat));
+            speeds[i] = BigDecimal.valueOf(speed[i]);
+        }
+    }
+
+    @Benchmark
+    public TrackTotals primitiveKahan() {
+        TrackAggregator aggregator = new TrackAggregator();
+        for (int i = 0; i < points; i++) {
+            aggregator.accept(lat[i], lng[i], time[i], speed[i], Double.NaN, Double.NaN);
+        }
+        return aggregator.toTotals();
+    }
+
+    @Benchmark
+    public BigDecimal legacyBigDecimal() {
+        BigDecimal totalDistance = BigDecimal.ZERO;
+        double maxSpeed = 0;
+        double totalSpeed = 0;
+        for (int i = 1; i < points; i++) {
+            totalDistance = totalDistance.add(BigDecimal.valueOf(TrackMath.haversine(
+                    locations[i - 1].getY(), locations[i - 1].getX(),
+                    locations[i].getY(), locations[i].getX())));
+            double s = Optional.ofNullable(speeds[i])
+                    .map(BigDecimal::doubleValue)
+                    .orElse(0.0);
+            totalSpeed += s;
+            maxSpeed = Math.max(maxSpeed, s);
+        }
+        return totalDistance.add(BigDecimal.valueOf(maxSpeed + totalSpeed / points));
+    }
+}
@@ -0,0 +1,116 @@
+package com.aidredaline.backend.domain.runningsession.repository;
+
+import com.aidredaline.backend.AiDreDalineBeApplication;
+import com.aidredaline.backend.domain.runningsession.entity.GpsTrackingPoint;
+import com.aidredaline.backend.domain.runningsession.entity.RunningSession;
+import com.aidredaline.backend.domain.runningsession.entity.SessionStatus;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GPS 포인트 저장 경로 비교: JPA saveAll vs JDBC 배치 INSERT vs COPY
+ * - ⚠️ 실제 PostgreSQL(PostGIS) 필요: 애플리케이션과 같은 DB_URL / DB_USER / DB_PASSWORD 환경 변수 사용
+ * - 실행: ./gradlew jmh -Pjmh.includes=GpsInsertBenchmark
+ * - 벤치마크용 세션 1개(userId=1)를 만들고, 매 호출 후 그 세션의 포인트를 삭제 (종료 시 세션도 삭제)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GpsInsertBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private GpsTrackingPointRepository gpsRepo;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate tx;
+    private Integer sessionId;
+    private List<GpsTrackingPoint> points;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 스케줄 작업(버퍼 flush, write-back, 배치 잡)이 측정 중 같은 DB를 쓰지 않도록 끔
+        context = new SpringApplicationBuilder(AiDreDalineBeApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--app.scheduling.enabled=false",
+                        "--spring.jpa.show-sql=false", "--spring.jpa.properties.hibernate.format_sql=false");
+        gpsRepo = context.getBean(GpsTrackingPointRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        RunningSession session = new RunningSession();
+        session.setUserId(1);
+        session.setStartTime(Instant.now());
+        session.setStatus(SessionStatus.COMPLETED);
+        sessionId = context.getBean(RunningSessionRepository.class).save(session).getSessionId();
+    }
+
+    // saveAll은 pointId를 채우므로 매 호출마다 새 엔티티 사용
+    @Setup(Level.Invocation)
+    public void preparePoints() {
+        GeometryFactory gf = new GeometryFactory(new PrecisionModel(), 4326);
+        Random random = new Random(42);
+        Instant start = Instant.parse("2025-11-10T12:00:00Z");
+
+        points = new ArrayList<>(rows);
+        double lat = 33.4996;
+        double lng = 126.5312;
+        for (int i = 0; i < rows; i++) {
+            lat += (random.nextDouble() - 0.5) * 0.00005;
+            lng += (random.nextDouble() - 0.5) * 0.00005;
+
+            GpsTrackingPoint p = new GpsTrackingPoint();
+            p.setSessionId(sessionId);
+            p.setLocation(gf.createPoint(new Coordinate(lng, lat)));
+            p.setRecordedAt(start.plusSeconds(i));
+            p.setSpeed(BigDecimal.valueOf(2.5 + random.nextDouble()).setScale(2, RoundingMode.HALF_UP));
+            p.setAltitude(BigDecimal.valueOf(10 + random.nextDouble() * 5).setScale(1, RoundingMode.HALF_UP));
+            p.setAccuracy(BigDecimal.valueOf(5));
+            points.add(p);
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void deletePoints() {
+        jdbcTemplate.update("DELETE FROM gps_tracking_points WHERE session_id = ?", sessionId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM running_sessions WHERE session_id = ?", sessionId);
+        context.close();
+    }
+
+    @Benchmark
+    public void jpaSaveAll() {
+        tx.executeWithoutResult(status -> gpsRepo.saveAll(points));
+    }
+
+    @Benchmark
+    public void jdbcBatchInsert() {
+        tx.executeWithoutResult(status -> gpsRepo.insertBatch(points));
+    }
+
+    @Benchmark
+    public long copyInsert() {
+        Long rows = tx.execute(status -> gpsRepo.copyInsert(points));
+        return rows != null ? rows : 0;
+    }
+}
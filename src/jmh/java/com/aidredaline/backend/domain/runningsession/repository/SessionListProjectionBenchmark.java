@@ -0,0 +1,123 @@
+package com.aidredaline.backend.domain.runningsession.repository;
+
+import com.aidredaline.backend.AiDreDalineBeApplication;
+import com.aidredaline.backend.domain.runningsession.dto.SessionItemRes;
+import com.aidredaline.backend.domain.runningsession.entity.RunningSession;
+import com.aidredaline.backend.domain.runningsession.entity.SessionStatus;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 완료 목록 조회 비교: 엔티티 로드 후 DTO 변환 vs 컬럼 projection (행당 시간)
+ * - ⚠️ 실제 PostgreSQL(PostGIS) 필요: 애플리케이션과 같은 DB_URL / DB_USER / DB_PASSWORD 환경 변수 사용
+ * - 실행: ./gradlew jmh -Pjmh.includes=SessionListProjectionBenchmark
+ * - 사용자(-Dbench.userId, 기본 1)에게 완료 세션 1,000개를 만들고 (경로 꼭짓점 pathPoints개),
+ *   한 번에 1,000개를 읽음 → 결과는 행당 시간 (종료 시 만든 세션 삭제)
+ * - 해당 사용자의 기존 완료 세션도 함께 읽히므로 세션이 없는 사용자로 실행할 것
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SessionListProjectionBenchmark {
+
+    private static final int SESSIONS = 1000;
+    private static final int USER_ID = Integer.getInteger("bench.userId", 1);
+
+    @Param({"500", "3000"})
+    public int pathPoints;
+
+    private ConfigurableApplicationContext context;
+    private RunningSessionRepository sessionRepo;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTx;
+    private final List<Integer> sessionIds = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 스케줄 작업(버퍼 flush, write-back, 배치 잡)이 측정 중 같은 DB를 쓰지 않도록 끔
+        context = new SpringApplicationBuilder(AiDreDalineBeApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--app.scheduling.enabled=false",
+                        "--spring.jpa.show-sql=false", "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        sessionRepo = context.getBean(RunningSessionRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        PlatformTransactionManager txManager = context.getBean(PlatformTransactionManager.class);
+        readOnlyTx = new TransactionTemplate(txManager);
+        readOnlyTx.setReadOnly(true);
+
+        GeometryFactory gf = new GeometryFactory(new PrecisionModel(), 4326);
+        Random random = new Random(42);
+        Instant start = Instant.parse("2024-01-01T06:00:00Z");
+
+        new TransactionTemplate(txManager).executeWithoutResult(status -> {
+            for (int i = 0; i < SESSIONS; i++) {
+                Coordinate[] coords = new Coordinate[pathPoints];
+                double lat = 33.4996;
+                double lng = 126.5312;
+                for (int j = 0; j < pathPoints; j++) {
+                    lat += (random.nextDouble() - 0.5) * 0.0001;
+                    lng += (random.nextDouble() - 0.5) * 0.0001;
+                    coords[j] = new Coordinate(lng, lat);
+                }
+
+                RunningSession s = new RunningSession();
+                s.setUserId(USER_ID);
+                s.setStatus(SessionStatus.COMPLETED);
+                s.setStartTime(start.plusSeconds(i * 86_400L));
+                s.setEndTime(s.getStartTime().plusSeconds(1800));
+                s.setActualDistance(BigDecimal.valueOf(5000 + random.nextInt(5000)));
+                s.setAveragePace(BigDecimal.valueOf(5.5));
+                s.setCalories(300);
+                s.setActualPath(gf.createLineString(coords));
+                s.setCurrentPosition(gf.createPoint(coords[pathPoints - 1]));
+                sessionIds.add(sessionRepo.save(s).getSessionId());
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (int i = 0; i < sessionIds.size(); i += 500) {
+            List<Integer> chunk = sessionIds.subList(i, Math.min(i + 500, sessionIds.size()));
+            jdbcTemplate.update("DELETE FROM running_sessions WHERE session_id = ANY (?)",
+                    (Object) chunk.toArray(new Integer[0]));
+        }
+        context.close();
+    }
+
+    // 기존 방식: 엔티티 전체(geometry 2개 포함) 로드 후 필드 6개만 사용
+    @Benchmark
+    @OperationsPerInvocation(SESSIONS)
+    public void entityThenMap(Blackhole bh) {
+        readOnlyTx.executeWithoutResult(status ->
+                sessionRepo.findByUserIdAndStatusOrderByStartTimeDesc(USER_ID, SessionStatus.COMPLETED, PageRequest.of(0, SESSIONS))
+                        .forEach(s -> bh.consume(new SessionItemRes(s.getSessionId(), s.getStartTime(), s.getEndTime(),
+                                s.getActualDistance(), s.getAveragePace(), s.getCalories()))));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SESSIONS)
+    public void projection(Blackhole bh) {
+        readOnlyTx.executeWithoutResult(status ->
+                sessionRepo.findItems(USER_ID, SessionStatus.COMPLETED, PageRequest.of(0, SESSIONS)).forEach(bh::consume));
+    }
+}
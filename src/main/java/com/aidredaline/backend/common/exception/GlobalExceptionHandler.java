@@ -3,6 +3,7 @@ package com.aidredaline.backend.common.exception;
 import com.aidredaline.backend.common.dto.ApiResponse;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -48,6 +49,19 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(e.getMessage()));
     }
 
+    /**
+     * 동시 수정 충돌 (@Version 검사 실패)
+     * - 세션 완료와 일시정지/재개가 동시에 들어온 경우 등
+     * - 클라이언트는 상태를 다시 조회한 뒤 재시도
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<?>> handleOptimisticLock(OptimisticLockingFailureException e) {
+        log.warn("Concurrent modification: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)  // 409
+                .body(ApiResponse.error("Concurrent modification, please retry"));
+    }
+
     /**
      * Bean Validation 실패
      * - @NotNull, @Min, @Max 등의 검증 어노테이션 위반
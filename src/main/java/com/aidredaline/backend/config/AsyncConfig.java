@@ -0,0 +1,23 @@
+package com.aidredaline.backend.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 비동기 / 스케줄링 설정
+ * - GPS 버퍼 주기 flush 등 백그라운드 작업 활성화
+ * - 실행기는 Spring Boot 기본 applicationTaskExecutor / taskScheduler 사용
+ * - app.scheduling.enabled=false면 @Scheduled 작업을 등록하지 않음 (벤치마크처럼 컨텍스트만 띄울 때)
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    @Configuration
+    @EnableScheduling
+    @ConditionalOnProperty(name = "app.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+    static class SchedulingConfig {
+    }
+}
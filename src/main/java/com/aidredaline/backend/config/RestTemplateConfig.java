@@ -1,28 +1,37 @@
 package com.aidredaline.backend.config;
 
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
 /**
  * RestTemplate 설정
  * HTTP 클라이언트 설정
+ * - JDK HttpClient 사용: 응답 대기 중 스레드를 잡지 않아 가상 스레드에서도 캐리어 고정(pinning) 없음
  */
 @Configuration
 public class RestTemplateConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+    public RestTemplate restTemplate(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        HttpClient.Builder client = HttpClient.newBuilder()
+                //무한대기 방지를 위한 설정 - 연결 타임아웃: 10초
+                .connectTimeout(Duration.ofSeconds(10));
+
+        // 가상 스레드 모드면 응답 처리도 가상 스레드에서 (기본은 플랫폼 스레드 캐시 풀)
+        if (virtualThreads) client.executor(Executors.newVirtualThreadPerTaskExecutor());
 
-        //무한대기 방지를 위한 설정 - 연결 타임아웃: 10초
-        factory.setConnectTimeout(10000);
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(client.build());
 
         //무한대기 방지를 위한 설정 - 읽기 타임아웃: 60초
-        factory.setReadTimeout(60000);
+        factory.setReadTimeout(Duration.ofSeconds(60));
 
         return new RestTemplate(factory);
     }
-}
\ No newline at end of file
+}
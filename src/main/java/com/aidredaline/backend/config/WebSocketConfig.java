@@ -0,0 +1,45 @@
+package com.aidredaline.backend.config;
+
+import com.aidredaline.backend.domain.runningsession.ws.SessionIdHandshakeInterceptor;
+import com.aidredaline.backend.domain.runningsession.ws.TrackingWebSocketHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import org.springframework.web.socket.server.standard.ServletServerContainerFactoryBean;
+
+/**
+ * WebSocket 설정
+ * - /ws/running-sessions/{sessionId}/tracking : 실시간 GPS 업로드 (바이너리 프레임)
+ */
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final TrackingWebSocketHandler trackingHandler;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(trackingHandler, "/ws/running-sessions/*/tracking")
+                .addInterceptors(new SessionIdHandshakeInterceptor())
+                .setAllowedOrigins(
+                        "http://localhost:3000",  // React 개발 서버
+                        "http://localhost:5001"   // flask 개발 서버
+                );
+    }
+
+    /**
+     * 프레임 크기 / 유휴 시간 제한 (포인트 36B × 최대 600개 ≈ 21KB)
+     */
+    @Bean
+    public ServletServerContainerFactoryBean createWebSocketContainer() {
+        ServletServerContainerFactoryBean container = new ServletServerContainerFactoryBean();
+        container.setMaxBinaryMessageBufferSize(32 * 1024);
+        container.setMaxTextMessageBufferSize(8 * 1024);
+        container.setMaxSessionIdleTimeout(120_000L);
+        return container;
+    }
+}
@@ -21,7 +21,9 @@ import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.PrecisionModel;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -48,6 +50,7 @@ public class RouteService {
     private final ShapeTemplateRepository templateRepository;
     private final FlaskClient flaskClient;  // Mock 또는 Real이 자동 주입됨!
     private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
 
     // PostGIS용 GeometryFactory (SRID 4326 = WGS84)
     private final GeometryFactory geometryFactory =
@@ -65,10 +68,13 @@ public class RouteService {
      * 5. DB 저장
      * 6. Entity → DTO 변환 후 반환
      *
+     * Flask 호출(최대 60초)은 트랜잭션 밖에서 → 대기 중에 DB 커넥션을 잡고 있지 않음
+     * (가상 스레드 모드에서 동시 요청이 커넥션 풀을 고갈시키지 않도록)
+     *
      * @param request 경로 생성 요청
      * @return 생성된 경로 정보
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public RouteGenerateResponse generateRoute(RouteGenerateRequest request) {
         log.info("2경로 생성 시작");
         log.info("   templateId: {}", request.getTemplateId());
@@ -116,13 +122,15 @@ public class RouteService {
                 template
         );
 
-        // 5. DB 저장
-        GeneratedRoute savedRoute = routeRepository.save(route);
+        // 5. DB 저장 (이 구간만 트랜잭션)
+        GeneratedRoute savedRoute = transactionTemplate.execute(status -> {
+            GeneratedRoute saved = routeRepository.save(route);
+            entityManager.flush();
+            entityManager.refresh(saved);
+            return saved;
+        });
         log.info("DB 저장 완료 - routeId: {}", savedRoute.getRouteId());
 
-        entityManager.flush();
-        entityManager.refresh(savedRoute);
-
         // 6. Entity → DTO 변환
         RouteGenerateResponse response = RouteGenerateResponse.from(
                 savedRoute,
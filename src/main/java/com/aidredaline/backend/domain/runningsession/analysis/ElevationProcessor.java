@@ -0,0 +1,102 @@
+package com.aidredaline.backend.domain.runningsession.analysis;
+
+/**
+ * GPS 고도 단일 패스 처리기 (TrackAggregator가 같은 스트리밍 패스에서 포인트마다 호출)
+ * - GPS 고도는 포인트마다 수 m씩 흔들리므로 그대로 차이를 더하면 평지에서도 상승/하강이 크게 잡힘
+ * - 지수 평활로 잡음을 줄인 뒤 히스테리시스(불감대)로 누적:
+ *   기준 고도에서 threshold 이상 벗어났을 때만 상승/하강으로 확정하고 기준을 그 위치로 옮김
+ *   → 제자리 흔들림은 threshold 미만으로 억제, 실제 오르막/내리막은 threshold만큼 늦게 확정
+ * - 끝까지 확정되지 않고 불감대 안에 남은 마지막 변화는 totalAscent/totalDescent에서 더함
+ *   → 총 상승 - 총 하강 = 마지막 평활 고도 - 첫 고도
+ * - 고도가 없는 포인트(NaN)는 건너뜀
+ * - 스레드 안전하지 않음
+ */
+public class ElevationProcessor {
+
+    private static final double DEFAULT_SMOOTHING = 0.3;
+    private static final double DEFAULT_THRESHOLD_M = 3.0;
+
+    private final double smoothing;   // 지수 평활 계수 (0~1, 클수록 새 값 반영이 빠름)
+    private final double threshold;   // 히스테리시스 폭 (m)
+
+    private boolean started;
+    private double level;     // 평활된 현재 고도
+    private double anchor;    // 마지막으로 확정한 기준 고도
+    private double ascent;
+    private double descent;
+
+    public ElevationProcessor() {
+        this(DEFAULT_SMOOTHING, DEFAULT_THRESHOLD_M);
+    }
+
+    public ElevationProcessor(double smoothing, double threshold) {
+        if (smoothing <= 0 || smoothing > 1) throw new IllegalArgumentException("smoothing must be in (0, 1]");
+        if (threshold < 0) throw new IllegalArgumentException("threshold must be >= 0");
+        this.smoothing = smoothing;
+        this.threshold = threshold;
+    }
+
+    public void accept(double altitude) {
+        if (Double.isNaN(altitude)) return;
+        if (!started) {
+            level = altitude;
+            anchor = altitude;
+            started = true;
+            return;
+        }
+
+        level += smoothing * (altitude - level);
+        double diff = level - anchor;
+        if (diff >= threshold) {
+            ascent += diff;
+            anchor = level;
+        } else if (diff <= -threshold) {
+            descent -= diff;
+            anchor = level;
+        }
+    }
+
+    public boolean hasData() {
+        return started;
+    }
+
+    /**
+     * 평활된 현재 고도 (데이터가 없으면 NaN)
+     */
+    public double level() {
+        return started ? level : Double.NaN;
+    }
+
+    /**
+     * 확정된 누적 상승 (불감대 안에 남은 변화 제외, 구간 경계 계산용)
+     */
+    public double ascent() {
+        return ascent;
+    }
+
+    /**
+     * 확정된 누적 하강 (불감대 안에 남은 변화 제외, 구간 경계 계산용)
+     */
+    public double descent() {
+        return descent;
+    }
+
+    /**
+     * 스트림 종료 시점의 총 상승 (확정값 + 불감대 안에 남은 마지막 상승)
+     */
+    public double totalAscent() {
+        return ascent + Math.max(0, pending());
+    }
+
+    /**
+     * 스트림 종료 시점의 총 하강 (확정값 + 불감대 안에 남은 마지막 하강)
+     */
+    public double totalDescent() {
+        return descent + Math.max(0, -pending());
+    }
+
+    // 마지막 기준 고도 이후 아직 확정되지 않은 변화
+    private double pending() {
+        return started ? level - anchor : 0;
+    }
+}
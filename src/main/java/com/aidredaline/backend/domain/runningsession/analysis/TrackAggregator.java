@@ -0,0 +1,195 @@
+package com.aidredaline.backend.domain.runningsession.analysis;
+
+import com.aidredaline.backend.domain.runningsession.dto.AnalysisRes;
+import com.aidredaline.backend.domain.runningsession.geo.KahanSum;
+import com.aidredaline.backend.domain.runningsession.geo.TrackMath;
+import com.aidredaline.backend.domain.runningsession.live.TrackTotals;
+import com.aidredaline.backend.domain.runningsession.repository.GpsTrackingPointRepositoryCustom.PointCallback;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GPS 포인트 단일 패스 집계기
+ * - streamBySessionId 콜백으로 한 포인트씩 받아 거리/속도/1km split을 누적
+ * - 포인트를 보관하지 않으므로 세션 길이와 무관하게 메모리 일정 (split 목록만 유지)
+ * - 포인트당 객체 할당 없이 원시 타입 + Kahan 합산으로 누적
+ * - 고도는 ElevationProcessor로 같은 패스에서 처리 (누적 상승/하강, split별 경사 + 경사 보정 페이스)
+ * - 결과 조회(toAnalysis/toTotals)는 상태를 바꾸지 않음 → 진행 중 세션에 계속 포인트를 넣으며 여러 번 조회 가능
+ * - 스레드 안전하지 않음 (ActiveSession은 자체 lock 안에서만 갱신)
+ */
+public class TrackAggregator implements PointCallback {
+
+    // 분석 결과 형식/계산 버전 (바뀌면 저장된 SessionAnalysis를 다시 계산)
+    // 2: 고도 상승/하강, split별 경사 + 경사 보정 페이스 추가
+    // 3: 불감대 안에 남은 마지막 고도 변화를 총량 / 마지막 split에 반영
+    public static final int VERSION = 3;
+
+    private static final double SPLIT_DISTANCE_M = 1000.0;
+    private static final long MAX_MOVING_GAP_MILLIS = 30_000;
+
+    // Minetti et al. (2002) 달리기 에너지 비용 다항식의 유효 경사 범위 (±45%)
+    private static final double MAX_GRADE = 0.45;
+    private static final double FLAT_COST = runningCost(0);
+
+    private long count;
+    private double prevLat;
+    private double prevLng;
+    private long prevMillis;
+
+    private final KahanSum totalDistance = new KahanSum();
+    private double movingSeconds;
+    private double maxSpeed;       // 전체 포인트 기준
+    private double splitMaxSpeed;  // 분석용: 첫 포인트 제외 (기존 analyze 기준 유지)
+    private double speedSum;       // 분석용: 첫 포인트 제외
+
+    private final KahanSum segmentDistance = new KahanSum();
+    private long segmentStartMillis;
+    private long segmentPoints;
+    private int totalCalories;
+    private final List<AnalysisRes.KmSplit> splits = new ArrayList<>();
+
+    // 고도 (split 시작 시점의 누적값/고도를 기억해 split별 차이 계산)
+    private final ElevationProcessor elevation = new ElevationProcessor();
+    private double segmentStartAscent;
+    private double segmentStartDescent;
+    private double segmentStartLevel = Double.NaN;
+
+    @Override
+    public void accept(double lat, double lng, long recordedAtMillis,
+                       double speed, double altitude, double accuracy) {
+        double s = Double.isNaN(speed) ? 0.0 : speed;
+        maxSpeed = Math.max(maxSpeed, s);
+
+        elevation.accept(altitude);
+        if (Double.isNaN(segmentStartLevel)) segmentStartLevel = elevation.level();
+
+        if (count == 0) {
+            segmentStartMillis = recordedAtMillis;
+        } else {
+            double dist = TrackMath.haversine(prevLat, prevLng, lat, lng);
+            totalDistance.add(dist);
+            segmentDistance.add(dist);
+            segmentPoints++;
+
+            long gapMillis = recordedAtMillis - prevMillis;
+            if (gapMillis <= MAX_MOVING_GAP_MILLIS) movingSeconds += gapMillis / 1000.0;
+
+            speedSum += s;
+            splitMaxSpeed = Math.max(splitMaxSpeed, s);
+
+            // 1km 마다 split 기록
+            if (segmentDistance.value() >= SPLIT_DISTANCE_M) closeSplit(recordedAtMillis);
+        }
+
+        prevLat = lat;
+        prevLng = lng;
+        prevMillis = recordedAtMillis;
+        count++;
+    }
+
+    /**
+     * 분석 결과 (마지막 1km 미만 구간도 split으로 포함)
+     */
+    public AnalysisRes toAnalysis(Integer sessionId, BigDecimal averagePace) {
+        if (count == 0) {
+            return new AnalysisRes(sessionId, BigDecimal.ZERO, BigDecimal.ZERO,
+                    BigDecimal.ZERO, BigDecimal.ZERO, 0, null, null, List.of());
+        }
+        // 진행 중인 마지막 구간은 복사본에만 추가 (이후 포인트가 더 들어와도 split이 어긋나지 않도록)
+        List<AnalysisRes.KmSplit> all = new ArrayList<>(splits);
+        int calories = totalCalories;
+        if (segmentPoints > 0) {
+            AnalysisRes.KmSplit last = toSplit(prevMillis, true);
+            all.add(last);
+            calories += last.segmentCalories();
+        }
+
+        return new AnalysisRes(
+                sessionId,
+                BigDecimal.valueOf(totalDistance.value()),
+                averagePace != null ? averagePace : BigDecimal.ZERO,
+                BigDecimal.valueOf(splitMaxSpeed),
+                BigDecimal.valueOf(speedSum / count),
+                calories,
+                elevation.hasData() ? toMeters(elevation.totalAscent()) : null,
+                elevation.hasData() ? toMeters(elevation.totalDescent()) : null,
+                List.copyOf(all)
+        );
+    }
+
+    /**
+     * 세션 누적값 (complete 재계산 / 복구용)
+     */
+    public TrackTotals toTotals() {
+        if (count == 0) {
+            return new TrackTotals(0, 0, 0, 0, null, null, null);
+        }
+        return new TrackTotals(totalDistance.value(), movingSeconds, maxSpeed, count,
+                prevLat, prevLng, Instant.ofEpochMilli(prevMillis));
+    }
+
+    private void closeSplit(long segmentEndMillis) {
+        AnalysisRes.KmSplit split = toSplit(segmentEndMillis, false);
+        splits.add(split);
+        totalCalories += split.segmentCalories();
+
+        segmentDistance.reset(0);
+        segmentPoints = 0;
+        segmentStartMillis = segmentEndMillis;
+        segmentStartAscent = elevation.ascent();
+        segmentStartDescent = elevation.descent();
+        segmentStartLevel = elevation.level();
+    }
+
+    // 현재 구간(segmentStartMillis ~ segmentEndMillis)의 split 값 (상태 변경 없음)
+    // 마지막 split은 불감대 안에 남은 고도 변화까지 포함 → split별 상승/하강의 합 = 총 상승/하강
+    private AnalysisRes.KmSplit toSplit(long segmentEndMillis, boolean last) {
+        double seconds = (segmentEndMillis - segmentStartMillis) / 1000;
+        BigDecimal minutes = BigDecimal.valueOf(seconds / 60.0);
+        BigDecimal segment = BigDecimal.valueOf(segmentDistance.value());
+        BigDecimal km = segment.divide(BigDecimal.valueOf(1000), 3, RoundingMode.HALF_UP);
+        BigDecimal pace = km.compareTo(BigDecimal.ZERO) > 0 ?
+                minutes.divide(km, 2, RoundingMode.HALF_UP) : BigDecimal.ZERO;
+        int calories = km.multiply(BigDecimal.valueOf(60)).intValue();
+
+        // 고도 데이터가 있는 split만 경사/보정 페이스 계산 (경사는 split 시작~끝 평활 고도 차 / 거리)
+        boolean hasElevation = !Double.isNaN(segmentStartLevel);
+        Double grade = hasElevation && segmentDistance.value() > 0
+                ? (elevation.level() - segmentStartLevel) / segmentDistance.value() : null;
+
+        return new AnalysisRes.KmSplit(
+                splits.size() + 1,
+                segment,
+                pace,
+                calories,
+                hasElevation ? toMeters((last ? elevation.totalAscent() : elevation.ascent()) - segmentStartAscent) : null,
+                hasElevation ? toMeters((last ? elevation.totalDescent() : elevation.descent()) - segmentStartDescent) : null,
+                grade != null ? BigDecimal.valueOf(grade * 100).setScale(1, RoundingMode.HALF_UP) : null,
+                grade != null ? gradeAdjustedPace(pace, grade) : null
+        );
+    }
+
+    /**
+     * 경사 보정 페이스 (평지에서 같은 에너지로 달렸을 때의 페이스, 분/km)
+     * - 같은 거리라도 오르막은 에너지가 더 들므로 평지 환산 거리 = 거리 × C(경사) / C(0)
+     * - 보정 페이스 = 페이스 × C(0) / C(경사)
+     */
+    static BigDecimal gradeAdjustedPace(BigDecimal pace, double grade) {
+        if (pace.signum() == 0) return BigDecimal.ZERO;
+        double factor = FLAT_COST / runningCost(Math.max(-MAX_GRADE, Math.min(MAX_GRADE, grade)));
+        return BigDecimal.valueOf(pace.doubleValue() * factor).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    // 달리기 에너지 비용 (J/kg/m), Minetti et al. (2002)
+    private static double runningCost(double i) {
+        return ((((155.4 * i - 30.4) * i - 43.3) * i + 46.3) * i + 19.5) * i + 3.6;
+    }
+
+    private static BigDecimal toMeters(double value) {
+        return BigDecimal.valueOf(value).setScale(1, RoundingMode.HALF_UP);
+    }
+}
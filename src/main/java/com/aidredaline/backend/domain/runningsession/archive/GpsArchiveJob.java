@@ -0,0 +1,63 @@
+package com.aidredaline.backend.domain.runningsession.archive;
+
+import com.aidredaline.backend.domain.runningsession.repository.GpsTrackingPointRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 오래된 완료 세션의 GPS 포인트 보관 작업
+ * - 완료 후 after-days가 지난 세션의 포인트를 세션당 압축 blob 한 행(gps_track_archives)으로 옮기고 원본 행 삭제
+ * - 세션마다 별도 트랜잭션 → 중간에 실패해도 이미 보관한 세션은 유지, 실패한 세션은 다음 실행에서 재시도
+ * - 보관 후에도 streamBySessionId가 blob을 풀어 주므로 getPoints / analyze 는 그대로 동작
+ */
+@Slf4j
+@Component
+public class GpsArchiveJob {
+
+    private final GpsTrackingPointRepository gpsRepo;
+    private final TransactionTemplate tx;
+
+    @Value("${gps.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${gps.archive.after-days:90}")
+    private int afterDays;
+
+    @Value("${gps.archive.batch-size:200}")
+    private int batchSize;
+
+    public GpsArchiveJob(GpsTrackingPointRepository gpsRepo, PlatformTransactionManager transactionManager) {
+        this.gpsRepo = gpsRepo;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${gps.archive.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void archiveColdSessions() {
+        if (!enabled) return;
+
+        Instant cutoff = Instant.now().minus(Duration.ofDays(afterDays));
+        List<Integer> sessionIds = gpsRepo.findArchivableSessionIds(cutoff, batchSize);
+        if (sessionIds.isEmpty()) return;
+
+        long points = 0;
+        int archived = 0;
+        for (Integer sessionId : sessionIds) {
+            try {
+                Long count = tx.execute(status -> gpsRepo.archiveSession(sessionId));
+                points += count != null ? count : 0;
+                archived++;
+            } catch (RuntimeException e) {
+                log.error("GPS 포인트 보관 실패: sessionId={}", sessionId, e);
+            }
+        }
+        log.info("GPS 포인트 보관 완료: sessions={}/{}, points={}", archived, sessionIds.size(), points);
+    }
+}
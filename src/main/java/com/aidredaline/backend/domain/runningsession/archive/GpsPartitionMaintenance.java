@@ -0,0 +1,66 @@
+package com.aidredaline.backend.domain.runningsession.archive;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+/**
+ * gps_tracking_points 월별 파티션 유지
+ * - 테이블이 파티션 테이블(db/changes/002)일 때만 동작, 아니면 아무것도 하지 않음
+ * - 이번 달부터 months-ahead 개월 뒤까지 파티션을 미리 생성 (없으면 DEFAULT 파티션으로 들어가 느려짐)
+ * - 파티션 경계는 UTC 월 기준
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GpsPartitionMaintenance {
+
+    private static final String PARENT = "gps_tracking_points";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${gps.partition.months-ahead:2}")
+    private int monthsAhead;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        ensurePartitionsQuietly();
+    }
+
+    @Scheduled(cron = "${gps.partition.cron:0 0 3 * * *}", zone = "Asia/Seoul")
+    public void ensurePartitionsQuietly() {
+        try {
+            ensurePartitions();
+        } catch (RuntimeException e) {
+            log.error("GPS 파티션 생성 실패", e);
+        }
+    }
+
+    public void ensurePartitions() {
+        if (!isPartitioned()) return;
+
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            String name = String.format("%s_y%04dm%02d", PARENT, month.getYear(), month.getMonthValue());
+            jdbcTemplate.execute(String.format(
+                    "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s-01 00:00:00+00') TO ('%s-01 00:00:00+00')",
+                    name, PARENT, month, month.plusMonths(1)));
+        }
+    }
+
+    private boolean isPartitioned() {
+        Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table pt JOIN pg_class c ON c.oid = pt.partrelid WHERE c.relname = ?)",
+                Boolean.class, PARENT);
+        return Boolean.TRUE.equals(partitioned);
+    }
+}
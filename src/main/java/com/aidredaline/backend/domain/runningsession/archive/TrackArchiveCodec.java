@@ -0,0 +1,194 @@
+package com.aidredaline.backend.domain.runningsession.archive;
+
+import com.aidredaline.backend.domain.runningsession.repository.GpsTrackingPointRepositoryCustom.PointCallback;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 보관(archive)된 세션의 GPS 포인트 압축 형식
+ * -----------------------------------------
+ * [버전 1B][포인트 수 varint] 다음에 포인트마다:
+ * - 위/경도: 1e-7도 정수의 직전 값 대비 차이 (zigzag varint)
+ * - 기록 시간: 직전 값 대비 ms 차이 (zigzag varint, 첫 값은 epoch ms)
+ * - 속도/고도/정확도: 소수점 2자리 정수 + 1 (zigzag varint, 0이면 NULL)
+ * 전체를 Deflate로 한 번 더 압축 → 행당 약 100B(인덱스 제외) 대비 수 바이트
+ *
+ * ⚠️ 위/경도는 1e-7도(약 1cm), 나머지 값은 소수점 2자리까지만 보존
+ */
+public final class TrackArchiveCodec {
+
+    public static final String CODEC = "delta-varint-deflate";
+
+    private static final byte VERSION = 1;
+    private static final double COORD_SCALE = 1e7;
+    private static final double VALUE_SCALE = 100;
+
+    private TrackArchiveCodec() {
+    }
+
+    /**
+     * 포인트를 압축 형식으로 직렬화 (포인트를 하나씩 받아 쓰는 writer)
+     */
+    public static Writer writer() {
+        return new Writer();
+    }
+
+    /**
+     * 압축 데이터를 풀어 기록 시간 순으로 콜백 호출
+     */
+    public static void decode(byte[] data, PointCallback callback) {
+        byte[] raw = inflate(data);
+        int[] pos = {0};
+
+        byte version = raw[pos[0]++];
+        if (version != VERSION) {
+            throw new IllegalStateException("Unsupported archive version: " + version);
+        }
+
+        long count = readVarint(raw, pos);
+        long lat = 0;
+        long lng = 0;
+        long millis = 0;
+        for (long i = 0; i < count; i++) {
+            lat += readSigned(raw, pos);
+            lng += readSigned(raw, pos);
+            millis += readSigned(raw, pos);
+            double speed = readNullable(raw, pos);
+            double altitude = readNullable(raw, pos);
+            double accuracy = readNullable(raw, pos);
+            callback.accept(lat / COORD_SCALE, lng / COORD_SCALE, millis, speed, altitude, accuracy);
+        }
+    }
+
+    public static final class Writer implements PointCallback {
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(4096);
+        private long count;
+        private long prevLat;
+        private long prevLng;
+        private long prevMillis;
+
+        private Writer() {
+        }
+
+        @Override
+        public void accept(double lat, double lng, long recordedAtMillis,
+                           double speed, double altitude, double accuracy) {
+            long latE7 = Math.round(lat * COORD_SCALE);
+            long lngE7 = Math.round(lng * COORD_SCALE);
+            writeSigned(body, latE7 - prevLat);
+            writeSigned(body, lngE7 - prevLng);
+            writeSigned(body, recordedAtMillis - prevMillis);
+            writeNullable(body, speed);
+            writeNullable(body, altitude);
+            writeNullable(body, accuracy);
+
+            prevLat = latE7;
+            prevLng = lngE7;
+            prevMillis = recordedAtMillis;
+            count++;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public byte[] toByteArray() {
+            ByteArrayOutputStream raw = new ByteArrayOutputStream(body.size() + 16);
+            raw.write(VERSION);
+            writeVarint(raw, count);
+            raw.writeBytes(body.toByteArray());
+            return deflate(raw.toByteArray());
+        }
+    }
+
+    private static void writeNullable(ByteArrayOutputStream out, double value) {
+        if (Double.isNaN(value)) {
+            writeVarint(out, 0);
+        } else {
+            long scaled = Math.round(value * VALUE_SCALE);
+            writeVarint(out, zigzag(scaled) + 1);
+        }
+    }
+
+    private static double readNullable(byte[] in, int[] pos) {
+        long v = readVarint(in, pos);
+        return v == 0 ? Double.NaN : unzigzag(v - 1) / VALUE_SCALE;
+    }
+
+    private static void writeSigned(ByteArrayOutputStream out, long value) {
+        writeVarint(out, zigzag(value));
+    }
+
+    private static long readSigned(byte[] in, int[] pos) {
+        return unzigzag(readVarint(in, pos));
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(byte[] in, int[] pos) {
+        long result = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in[pos[0]++];
+            result |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return result;
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 16);
+            byte[] buf = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buf, 0, deflater.deflate(buf));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] data) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 4);
+            byte[] buf = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buf);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated archive data");
+                }
+                out.write(buf, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted archive data", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.aidredaline.backend.domain.runningsession.cache;
+
+import com.aidredaline.backend.domain.runningsession.dto.AnalysisRes;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 완료된 세션의 분석 결과 캐시 (sessionId → AnalysisRes)
+ * - AnalysisRes는 불변(record + List.copyOf)이므로 그대로 공유
+ * - 용량은 세션 수가 아니라 무게(1 + split 수)로 제한 → 긴 세션 몇 개가 캐시를 독차지하지 않음
+ * - 완료 후에는 바뀌지 않으므로 포인트 재계산(recompute) 때만 교체
+ * - 진행 중 세션은 넣지 않음 (호출 측에서 판단)
+ */
+@Component
+public class AnalysisCache {
+
+    private final Cache<Integer, AnalysisRes> cache;
+
+    public AnalysisCache(
+            @Value("${running.analysis.cache-max-weight:500000}") long maxWeight,
+            @Value("${running.analysis.cache-expire-minutes:120}") long expireMinutes
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((Integer sessionId, AnalysisRes analysis) -> 1 + analysis.splits().size())
+                .expireAfterAccess(Duration.ofMinutes(expireMinutes))
+                .build();
+    }
+
+    public AnalysisRes getIfPresent(Integer sessionId) {
+        return cache.getIfPresent(sessionId);
+    }
+
+    public AnalysisRes get(Integer sessionId, Function<Integer, AnalysisRes> loader) {
+        return cache.get(sessionId, loader);
+    }
+
+    public void put(Integer sessionId, AnalysisRes analysis) {
+        cache.put(sessionId, analysis);
+    }
+}
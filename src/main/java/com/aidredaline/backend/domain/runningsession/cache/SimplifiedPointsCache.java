@@ -0,0 +1,40 @@
+package com.aidredaline.backend.domain.runningsession.cache;
+
+import com.aidredaline.backend.domain.runningsession.dto.GpsPointRes;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 완료된 세션의 단순화 포인트 캐시 (세션 + 허용 오차별)
+ * - 완료 후에는 포인트가 바뀌지 않으므로 무효화 없이 용량(포인트 수) + 미사용 만료로만 정리
+ * - 진행 중 세션은 캐시하지 않음 (호출 측에서 판단)
+ */
+@Component
+public class SimplifiedPointsCache {
+
+    private final Cache<Key, List<GpsPointRes>> cache;
+
+    public SimplifiedPointsCache(
+            @Value("${running.points.simplify-cache-max-points:2000000}") long maxPoints,
+            @Value("${running.points.simplify-cache-expire-minutes:60}") long expireMinutes
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxPoints)
+                .weigher((Key key, List<GpsPointRes> points) -> Math.max(1, points.size()))
+                .expireAfterAccess(Duration.ofMinutes(expireMinutes))
+                .build();
+    }
+
+    public List<GpsPointRes> get(Integer sessionId, double toleranceDeg,
+                                 Function<Key, List<GpsPointRes>> loader) {
+        return cache.get(new Key(sessionId, toleranceDeg), loader);
+    }
+
+    public record Key(Integer sessionId, double toleranceDeg) {}
+}
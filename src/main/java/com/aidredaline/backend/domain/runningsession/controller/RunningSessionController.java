@@ -4,14 +4,23 @@ import com.aidredaline.backend.domain.runningsession.dto.*;
 import com.aidredaline.backend.domain.runningsession.service.RunningSessionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -50,16 +59,20 @@ public class RunningSessionController {
     // 2️⃣ GPS 트래킹 데이터 저장
     @Operation(
             summary = "GPS 트래킹 데이터 저장",
-            description = "실시간 GPS 위치 데이터를 저장합니다. 5초 간격으로 호출을 권장합니다."
+            description = "실시간 GPS 위치 데이터를 저장합니다. 5초 간격으로 호출을 권장합니다. "
+                    + "응답에는 서버가 판단한 경로 이탈 상태와 새로 발생한 안내 이벤트(OFF_ROUTE 등)가 포함됩니다."
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "204", description = "GPS 데이터 저장 성공"),
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "GPS 데이터 저장 성공",
+                    content = @Content(schema = @Schema(implementation = TrackRes.class))
+            ),
             @ApiResponse(responseCode = "404", description = "세션을 찾을 수 없음"),
             @ApiResponse(responseCode = "400", description = "세션이 활성 상태가 아님")
     })
     @PostMapping("/{sessionId}/tracking")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void track(
+    public TrackRes track(
             @Parameter(description = "세션 ID", required = true, example = "1")
             @PathVariable Integer sessionId,
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
@@ -69,7 +82,64 @@ public class RunningSessionController {
             )
             @RequestBody TrackReq req
     ) {
-        service.track(sessionId, req);
+        return service.track(sessionId, req);
+    }
+
+    // 2️⃣ GPS 트래킹 데이터 일괄 저장
+    @Operation(
+            summary = "GPS 트래킹 데이터 일괄 저장",
+            description = "단말에 10~30초 분량 버퍼링한 GPS 포인트를 한 번에 저장합니다. 포인트는 기록 시간 오름차순이어야 하며, 유효하지 않은 포인트는 거부 건수로 집계됩니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "일괄 저장 성공",
+                    content = @Content(schema = @Schema(implementation = TrackBatchRes.class))
+            ),
+            @ApiResponse(responseCode = "404", description = "세션을 찾을 수 없음"),
+            @ApiResponse(responseCode = "400", description = "세션이 활성 상태가 아니거나 포인트 수 초과")
+    })
+    @PostMapping("/{sessionId}/tracking/batch")
+    public TrackBatchRes trackBatch(
+            @Parameter(description = "세션 ID", required = true, example = "1")
+            @PathVariable Integer sessionId,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "GPS 트래킹 데이터 목록",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = TrackBatchReq.class))
+            )
+            @RequestBody TrackBatchReq req
+    ) {
+        return service.trackBatch(sessionId, req);
+    }
+
+    // 2️⃣ 오프라인 기록 가져오기
+    @Operation(
+            summary = "오프라인 GPS 기록 가져오기",
+            description = "네트워크 없이 단말에 쌓아 둔 GPS 포인트를 한 번에 업로드합니다 (최대 86400개). "
+                    + "일괄 업로드와 같은 검증/필터를 거친 뒤 PostgreSQL COPY로 저장합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "저장 성공",
+                    content = @Content(schema = @Schema(implementation = TrackBatchRes.class))
+            ),
+            @ApiResponse(responseCode = "404", description = "세션을 찾을 수 없음"),
+            @ApiResponse(responseCode = "400", description = "세션이 활성 상태가 아니거나 포인트 수 초과")
+    })
+    @PostMapping("/{sessionId}/tracking/import")
+    public TrackBatchRes importPoints(
+            @Parameter(description = "세션 ID", required = true, example = "1")
+            @PathVariable Integer sessionId,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "GPS 트래킹 데이터 목록 (기록 시간 순)",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = TrackBatchReq.class))
+            )
+            @RequestBody TrackBatchReq req
+    ) {
+        return service.importPoints(sessionId, req);
     }
 
     // 3️⃣ 러닝 일시정지
@@ -128,10 +198,34 @@ public class RunningSessionController {
     })
     @PostMapping("/{sessionId}/complete")
     public CompleteSessionRes complete(
+            @Parameter(description = "세션 ID", required = true, example = "1")
+            @PathVariable Integer sessionId,
+            @Parameter(description = "true면 트래킹 중 누적값 대신 저장된 GPS 포인트 전체로 재계산 (검증용)", example = "false")
+            @RequestParam(defaultValue = "false") boolean recompute
+    ) {
+        return service.complete(sessionId, recompute);
+    }
+
+    // 4️⃣ 완료된 러닝 누적값 재계산 (복구용)
+    @Operation(
+            summary = "러닝 누적값 재계산",
+            description = "완료된 세션의 거리, 페이스, 칼로리, 최고 속도를 저장된 GPS 포인트 전체로 다시 계산해 저장합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "재계산 성공",
+                    content = @Content(schema = @Schema(implementation = CompleteSessionRes.class))
+            ),
+            @ApiResponse(responseCode = "404", description = "세션을 찾을 수 없음"),
+            @ApiResponse(responseCode = "400", description = "완료된 세션이 아님")
+    })
+    @PostMapping("/{sessionId}/recompute")
+    public CompleteSessionRes recompute(
             @Parameter(description = "세션 ID", required = true, example = "1")
             @PathVariable Integer sessionId
     ) {
-        return service.complete(sessionId);
+        return service.recompute(sessionId);
     }
 
     // 5️⃣ 러닝 상세 조회
@@ -156,25 +250,94 @@ public class RunningSessionController {
     }
 
 
+    // 5️⃣ 실시간 관전 (SSE)
+    @Operation(
+            summary = "실시간 관전 (Server-Sent Events)",
+            description = "진행 중인 세션의 현재 위치와 누적 거리를 position 이벤트로 푸시합니다. "
+                    + "구독 직후 현재 값을 한 번 보내고, 이후 포인트가 들어올 때마다 최신 값만 전송합니다 (느린 구독자는 중간 위치 생략). "
+                    + "세션이 완료되면 status=completed 이벤트를 보낸 뒤 스트림을 닫습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "구독 성공 (text/event-stream)",
+                    content = @Content(
+                            mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = LivePositionRes.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "404", description = "세션을 찾을 수 없음"),
+            @ApiResponse(responseCode = "400", description = "세션이 활성 상태가 아님")
+    })
+    @GetMapping(value = "/{sessionId}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter live(
+            @Parameter(description = "세션 ID", required = true, example = "1")
+            @PathVariable Integer sessionId
+    ) {
+        return service.subscribeLive(sessionId);
+    }
+
+
     // 6️⃣ GPS 포인트 목록 조회 (지도 시각화용)
     @Operation(
             summary = "GPS 포인트 목록 조회",
-            description = "지도 시각화를 위한 GPS 트래킹 포인트 목록을 조회합니다."
+            description = "지도 시각화를 위한 GPS 트래킹 포인트 목록을 조회합니다. "
+                    + "DB 커서에서 읽는 대로 스트리밍 전송하며, Accept: application/x-ndjson 이면 한 줄에 포인트 하나씩 전송합니다. "
+                    + "zoom 또는 tolerance를 주면 Douglas-Peucker로 단순화한 포인트만 반환합니다 (완료 세션은 캐시)."
     )
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
                     description = "조회 성공",
-                    content = @Content(schema = @Schema(implementation = GpsPointRes.class))
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = GpsPointRes.class)))
             ),
             @ApiResponse(responseCode = "404", description = "세션을 찾을 수 없음")
     })
     @GetMapping("/{sessionId}/points")
-    public List<GpsPointRes> getPoints(
+    public ResponseEntity<StreamingResponseBody> getPoints(
+            @Parameter(description = "세션 ID", required = true, example = "1")
+            @PathVariable Integer sessionId,
+            @Parameter(description = "지도 줌 레벨 (0~22). 해당 줌의 1픽셀 이하 꼭짓점을 제거", example = "15")
+            @RequestParam(required = false) Integer zoom,
+            @Parameter(description = "단순화 허용 오차 (도 단위, zoom보다 우선)", example = "0.00005")
+            @RequestParam(required = false) Double tolerance,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        boolean ndjson = accept != null && accept.contains(MediaType.APPLICATION_NDJSON_VALUE);
+        MediaType contentType = ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON;
+
+        if (zoom != null || tolerance != null) {
+            List<GpsPointRes> points = service.getSimplifiedPoints(sessionId, zoom, tolerance);
+            return ResponseEntity.ok()
+                    .contentType(contentType)
+                    .body(out -> service.writePoints(points, out, ndjson));
+        }
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .body(out -> service.writePoints(sessionId, out, ndjson));
+    }
+
+
+    // 6️⃣ 러닝 경로 조회 (지도 시각화용, Encoded Polyline)
+    @Operation(
+            summary = "러닝 경로 조회 (Encoded Polyline)",
+            description = "완료된 세션은 저장된 경로(actualPath) 하나를 Google Encoded Polyline 문자열로 반환합니다. "
+                    + "GPS 포인트 목록보다 응답 크기가 훨씬 작아 지도 표시용으로 권장합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = SessionPathRes.class))
+            ),
+            @ApiResponse(responseCode = "404", description = "세션을 찾을 수 없음")
+    })
+    @GetMapping("/{sessionId}/path")
+    public SessionPathRes getPath(
             @Parameter(description = "세션 ID", required = true, example = "1")
             @PathVariable Integer sessionId
     ) {
-        return service.getPoints(sessionId);
+        return service.getPath(sessionId);
     }
 
 
@@ -202,11 +365,37 @@ public class RunningSessionController {
         return service.getList(userId, page, size);
     }
 
+    // 7️⃣ 러닝 목록 조회 (커서 기반, 깊은 페이지도 첫 페이지와 같은 비용)
+    @Operation(
+            summary = "완료된 러닝 목록 조회 (커서)",
+            description = "사용자의 완료된 러닝 세션 목록을 최신순으로 조회합니다. "
+                    + "전체 개수를 세지 않으며, 응답의 nextCursor를 다음 요청의 cursor로 전달하면 이어서 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = SessionSliceRes.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 크기 (1~100)")
+    })
+    @GetMapping("/history")
+    public SessionSliceRes getHistory(
+            @Parameter(description = "사용자 ID", required = true, example = "1")
+            @RequestParam Integer userId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 요청은 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 개수 (1~100)", example = "10")
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return service.getHistory(userId, cursor, size);
+    }
+
 
     // 7️⃣ 사용자 통계 요약 (완료 기준: 총 횟수 / 총 거리 / 평균 페이스)
     @Operation(
             summary = "사용자 러닝 통계 조회",
-            description = "사용자의 전체 러닝 통계를 조회합니다. (총 횟수, 총 거리, 평균 페이스)"
+            description = "사용자의 전체 러닝 통계를 조회합니다. (총 횟수, 총 거리, 평균 페이스, 최고 페이스)"
     )
     @ApiResponses({
             @ApiResponse(
@@ -223,11 +412,41 @@ public class RunningSessionController {
         return service.getStatistics(userId);
     }
 
+    // 7️⃣ 기간별(주/월/년) 통계 (차트용)
+    @Operation(
+            summary = "사용자 기간별 러닝 통계 조회",
+            description = "주/월/년 단위로 완료 횟수, 총 거리, 총 이동 시간, 평균 페이스를 조회합니다. "
+                    + "기간은 한국 시간 기준이며, 기록이 없는 기간도 0으로 포함합니다. "
+                    + "from/to를 생략하면 오늘이 속한 기간까지 주 12개, 월 12개, 년 5개를 반환합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = StatisticsBucketsRes.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "잘못된 단위 또는 기간 (최대 366개)")
+    })
+    @GetMapping("/statistics/{userId}/buckets")
+    public StatisticsBucketsRes getStatisticsBuckets(
+            @Parameter(description = "사용자 ID", required = true, example = "1")
+            @PathVariable Integer userId,
+            @Parameter(description = "통계 단위 (week / month / year)", example = "week")
+            @RequestParam(defaultValue = "week") String granularity,
+            @Parameter(description = "시작일 (포함, 해당 기간의 시작일로 맞춤)", example = "2025-09-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (포함, 기본값 오늘)", example = "2025-11-30")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return service.getStatisticsBuckets(userId, granularity, from, to);
+    }
+
 
     // 8️⃣ 러닝 세션 상세 분석
     @Operation(
             summary = "러닝 세션 상세 분석",
-            description = "러닝 세션의 상세 분석 데이터를 조회합니다. (km별 split, 최고 속도, 평균 속도 등)"
+            description = "러닝 세션의 상세 분석 데이터를 조회합니다. (km별 split, 최고 속도, 평균 속도, 누적 상승/하강 고도, split별 경사 보정 페이스 등) "
+                    + "완료된 세션은 완료 시 저장된 결과를 반환합니다."
     )
     @ApiResponses({
             @ApiResponse(
@@ -10,12 +10,18 @@ public record AnalysisRes(
         BigDecimal maxSpeed,
         BigDecimal avgSpeed,
         Integer totalCalories,
+        BigDecimal totalAscent,     // 누적 상승 고도 (m, 고도 데이터가 없으면 null)
+        BigDecimal totalDescent,    // 누적 하강 고도 (m, 고도 데이터가 없으면 null)
         List<KmSplit> splits
 ) {
     public record KmSplit(
             int kmIndex,
             BigDecimal segmentDistance,
             BigDecimal segmentPace,
-            int segmentCalories
+            int segmentCalories,
+            BigDecimal elevationGain,       // split 구간 상승 고도 (m)
+            BigDecimal elevationLoss,       // split 구간 하강 고도 (m)
+            BigDecimal grade,               // split 평균 경사 (%, 시작~끝 고도 차 / 거리)
+            BigDecimal gradeAdjustedPace    // 경사 보정 페이스 (분/km, 평지 환산)
     ) {}
 }
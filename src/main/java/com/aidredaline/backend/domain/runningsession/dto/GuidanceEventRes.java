@@ -0,0 +1,28 @@
+package com.aidredaline.backend.domain.runningsession.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+@Schema(description = "서버에서 판단한 안내 이벤트 (트래킹 응답 / WebSocket으로 전달)")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record GuidanceEventRes(
+        @Schema(description = "이벤트 타입 (off_route / on_route / progress / turn)", example = "off_route")
+        String type,
+
+        @Schema(description = "안내 ID (없으면 null)", example = "OFF_ROUTE")
+        String guidanceId,
+
+        @Schema(description = "안내 텍스트", example = "경로에서 벗어났습니다")
+        String guidanceText,
+
+        @Schema(description = "TTS 음성 파일 URL", example = "http://localhost:8080/tts/off_route.mp3")
+        String ttsUrl,
+
+        @Schema(description = "경로까지 거리 (m, off_route / on_route)", example = "42.5")
+        BigDecimal distanceFromRoute,
+
+        @Schema(description = "안내 지점까지 남은 거리 (m, turn)", example = "14.2")
+        BigDecimal distanceToTurn
+) {}
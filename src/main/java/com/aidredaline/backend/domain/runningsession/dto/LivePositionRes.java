@@ -0,0 +1,31 @@
+package com.aidredaline.backend.domain.runningsession.dto;
+
+import com.aidredaline.backend.domain.runningsession.entity.SessionStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Schema(description = "실시간 관전 이벤트 (SSE position 이벤트 데이터)")
+public record LivePositionRes(
+        @Schema(description = "세션 ID", example = "1")
+        Integer sessionId,
+
+        @Schema(description = "세션 상태 (in_progress, paused, completed)", example = "in_progress")
+        SessionStatus status,
+
+        @Schema(description = "현재 위도 (아직 위치가 없으면 null)", example = "33.5001")
+        Double lat,
+
+        @Schema(description = "현재 경도 (아직 위치가 없으면 null)", example = "126.5318")
+        Double lng,
+
+        @Schema(description = "누적 거리 (m)", example = "1520.35")
+        BigDecimal distance,
+
+        @Schema(description = "이동 시간 (초)", example = "540")
+        long movingTime,
+
+        @Schema(description = "마지막 포인트 기록 시간", example = "2025-11-10T12:09:00Z")
+        Instant recordedAt
+) {}
@@ -1,5 +1,6 @@
 package com.aidredaline.backend.domain.runningsession.dto;
 
+import com.aidredaline.backend.domain.runningsession.entity.SessionStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.math.BigDecimal;
@@ -26,5 +27,8 @@ public record SessionDetailRes(
         Integer calories,
 
         @Schema(description = "세션 상태", example = "completed")
-        String status
+        SessionStatus status,
+
+        @Schema(description = "완료된 경로 (Encoded Polyline, 소수점 5자리). 진행 중이면 null", example = "_p~iF~ps|U_ulLnnqC")
+        String encodedPath
 ) {}
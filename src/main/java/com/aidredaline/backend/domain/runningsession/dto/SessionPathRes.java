@@ -0,0 +1,18 @@
+package com.aidredaline.backend.domain.runningsession.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "러닝 경로 (Encoded Polyline)")
+public record SessionPathRes(
+        @Schema(description = "세션 ID", example = "1")
+        Integer sessionId,
+
+        @Schema(description = "인코딩 방식 (Google Encoded Polyline, 소수점 5자리)", example = "polyline5")
+        String encoding,
+
+        @Schema(description = "경로 좌표 수", example = "812")
+        int pointCount,
+
+        @Schema(description = "인코딩된 경로 문자열", example = "_p~iF~ps|U_ulLnnqC_mqNvxq`@")
+        String path
+) {}
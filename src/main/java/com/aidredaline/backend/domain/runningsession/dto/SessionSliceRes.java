@@ -0,0 +1,18 @@
+package com.aidredaline.backend.domain.runningsession.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "완료된 러닝 목록 (커서 기반, 최신순)")
+public record SessionSliceRes(
+        @Schema(description = "세션 목록")
+        List<SessionItemRes> items,
+
+        @Schema(description = "다음 목록 커서 (다음 요청의 cursor로 그대로 전달, 마지막이면 null)",
+                example = "AAYF7u5AAAAAAAAAKg")
+        String nextCursor,
+
+        @Schema(description = "다음 목록 존재 여부", example = "true")
+        boolean hasNext
+) {}
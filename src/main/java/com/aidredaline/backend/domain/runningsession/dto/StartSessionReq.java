@@ -13,5 +13,8 @@ public record StartSessionReq(
         double startLat,
 
         @Schema(description = "시작 경도", example = "126.5312", required = true)
-        double startLng
+        double startLng,
+
+        @Schema(description = "턴 안내를 서버에서 판단 (트래킹 응답 events로 전달, 기본 false)", example = "false")
+        Boolean serverGuidance
 ) {}
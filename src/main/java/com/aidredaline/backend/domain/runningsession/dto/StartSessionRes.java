@@ -1,6 +1,7 @@
 package com.aidredaline.backend.domain.runningsession.dto;
 
 import com.aidredaline.backend.domain.guidance.dto.GuidancePointDto;
+import com.aidredaline.backend.domain.runningsession.entity.SessionStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.Instant;
 import java.util.List;
@@ -11,12 +12,15 @@ public record StartSessionRes(
         Integer sessionId,
 
         @Schema(description = "세션 상태", example = "in_progress")
-        String status,
+        SessionStatus status,
 
         @Schema(description = "시작 시간", example = "2025-11-10T12:00:00Z")
         Instant startTime,
 
         @Schema(description = "음성 안내 지점 목록")
-        List<GuidancePointDto> guidancePoints
+        List<GuidancePointDto> guidancePoints,
+
+        @Schema(description = "서버 측 턴 안내 여부 (true면 단말은 지점 목록으로 직접 안내하지 않음)", example = "false")
+        boolean serverGuidance
 
 ) {}
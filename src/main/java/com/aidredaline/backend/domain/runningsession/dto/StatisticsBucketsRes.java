@@ -0,0 +1,39 @@
+package com.aidredaline.backend.domain.runningsession.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Schema(description = "기간별 러닝 통계 (완료 세션 기준, 기록이 없는 기간도 0으로 포함)")
+public record StatisticsBucketsRes(
+        @Schema(description = "사용자 ID", example = "1")
+        Integer userId,
+
+        @Schema(description = "통계 단위 (week / month / year)", example = "week")
+        String granularity,
+
+        @Schema(description = "버킷 기준 시간대", example = "Asia/Seoul")
+        String timezone,
+
+        @Schema(description = "기간별 통계 (오래된 순)")
+        List<Bucket> buckets
+) {
+    public record Bucket(
+            @Schema(description = "기간 시작일 (주: 월요일, 월: 1일, 년: 1월 1일)", example = "2025-11-10")
+            LocalDate bucketStart,
+
+            @Schema(description = "완료 횟수", example = "3")
+            int totalRuns,
+
+            @Schema(description = "총 거리 (m)", example = "15234.5")
+            BigDecimal totalDistance,
+
+            @Schema(description = "총 이동 시간 (초)", example = "5400")
+            long movingTime,
+
+            @Schema(description = "평균 페이스 (min/km, 총 이동 시간 / 총 거리)", example = "5.91")
+            BigDecimal averagePace
+    ) {}
+}
@@ -1,9 +1,14 @@
 package com.aidredaline.backend.domain.runningsession.dto;
 
+import io.swagger.v3.oas.annotations.media.Schema;
+
 import java.math.BigDecimal;
 
 public record StatisticsRes(
         int totalRuns,
         BigDecimal totalDistance,
-        BigDecimal averagePace
+        BigDecimal averagePace,
+
+        @Schema(description = "가장 빠른 평균 페이스 (min/km, 기록이 없으면 null)", example = "5.12")
+        BigDecimal bestPace
 ) {}
@@ -0,0 +1,11 @@
+package com.aidredaline.backend.domain.runningsession.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "GPS 트래킹 일괄 업로드 요청")
+public record TrackBatchReq(
+        @Schema(description = "기록 시간 오름차순으로 정렬된 GPS 포인트 목록 (10~30초 분량 권장)", required = true)
+        List<TrackReq> points
+) {}
@@ -0,0 +1,33 @@
+package com.aidredaline.backend.domain.runningsession.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Schema(description = "GPS 트래킹 일괄 업로드 응답")
+public record TrackBatchRes(
+        @Schema(description = "세션 ID", example = "1")
+        Integer sessionId,
+
+        @Schema(description = "수신한 포인트 수", example = "30")
+        int received,
+
+        @Schema(description = "저장된 포인트 수", example = "29")
+        int accepted,
+
+        @Schema(description = "거부된 포인트 수 (좌표 범위 오류, 시간 역순/중복, 노이즈 필터)", example = "1")
+        int rejected,
+
+        @Schema(description = "경로 이탈 상태 (마지막 포인트 기준)", example = "false")
+        boolean offRoute,
+
+        @Schema(description = "경로 진행률 (0~1, 경로가 없으면 null)", example = "0.4215")
+        BigDecimal progress,
+
+        @Schema(description = "남은 경로 거리 (m, 경로가 없으면 null)", example = "2893.4")
+        BigDecimal distanceRemaining,
+
+        @Schema(description = "이번 업로드에서 새로 발생한 안내 이벤트")
+        List<GuidanceEventRes> events
+) {}
@@ -0,0 +1,30 @@
+package com.aidredaline.backend.domain.runningsession.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Schema(description = "GPS 트래킹 응답 (서버 안내 판단 결과 포함)")
+public record TrackRes(
+        @Schema(description = "저장 여부 (노이즈 필터에서 거부되면 false)", example = "true")
+        boolean accepted,
+
+        @Schema(description = "경로 이탈 상태", example = "false")
+        boolean offRoute,
+
+        @Schema(description = "경로까지 거리 (m, 경로가 없거나 포인트가 거부되면 null)", example = "4.2")
+        BigDecimal distanceFromRoute,
+
+        @Schema(description = "경로 진행률 (0~1, 경로가 없으면 null)", example = "0.4215")
+        BigDecimal progress,
+
+        @Schema(description = "남은 경로 거리 (m, 경로가 없으면 null)", example = "2893.4")
+        BigDecimal distanceRemaining,
+
+        @Schema(description = "이번 포인트에서 새로 발생한 안내 이벤트")
+        List<GuidanceEventRes> events
+) {
+
+    public static final TrackRes REJECTED = new TrackRes(false, false, null, null, null, List.of());
+}
@@ -3,14 +3,11 @@ package com.aidredaline.backend.domain.runningsession.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
-import org.hibernate.annotations.Type;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.Point;
 
 import java.math.BigDecimal;
 import java.time.Instant;
-import java.util.List;
-import java.util.Map;
 
 @Entity
 @Table(name = "running_sessions")
@@ -28,7 +25,12 @@ public class RunningSession {
     @Column(name = "route_id")
     private Integer routeId;
 
-    private String status;
+    private SessionStatus status;
+
+    // 낙관적 잠금 (상태 전이 조건부 UPDATE도 함께 증가시킴)
+    @Version
+    @Column(name = "version")
+    private Long version;
 
     @Column(name = "start_time")
     private Instant startTime;
@@ -48,16 +50,26 @@ public class RunningSession {
     @Column(name = "average_pace")
     private BigDecimal averagePace;
 
+    // 트래킹 중 증분 계산되는 값 (ActiveSessionRegistry가 주기적으로 반영)
+    @Column(name = "max_speed")
+    private BigDecimal maxSpeed;
+
+    @Column(name = "point_count")
+    private Integer pointCount;
+
+    @Column(name = "last_point_at")
+    private Instant lastPointAt;
+
+    // 턴 안내를 서버가 판단하는 세션 (트래킹 응답으로 안내 이벤트 전달)
+    @Column(name = "server_guidance")
+    private Boolean serverGuidance;
+
     @Column(columnDefinition = "geometry(LineString, 4326)")
     private LineString actualPath;
 
     @Column(columnDefinition = "geometry(Point, 4326)")
     private Point currentPosition;
 
-    @Type(com.vladmihalcea.hibernate.type.json.JsonType.class)
-    @Column(columnDefinition = "jsonb")
-    private List<Map<String, Object>> pauseHistory;
-
     @Column(name = "calories")
     private Integer calories;
 
@@ -74,7 +86,7 @@ public class RunningSession {
     void onCreate() {
         createdAt = Instant.now();
         updatedAt = Instant.now();
-        if (status == null) status = "in_progress";
+        if (status == null) status = SessionStatus.IN_PROGRESS;
     }
 
     @PreUpdate
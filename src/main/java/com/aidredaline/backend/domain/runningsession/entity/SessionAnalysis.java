@@ -0,0 +1,43 @@
+package com.aidredaline.backend.domain.runningsession.entity;
+
+import com.aidredaline.backend.domain.runningsession.dto.AnalysisRes;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Type;
+
+import java.time.Instant;
+
+/**
+ * 완료된 세션의 분석 결과 (세션당 1행, 완료/재계산 시에만 기록)
+ * - 완료 후 포인트는 바뀌지 않으므로 조회 때마다 포인트 전체를 다시 읽지 않도록 저장
+ */
+@Entity
+@Table(name = "session_analyses")
+@Getter @Setter
+@NoArgsConstructor
+public class SessionAnalysis {
+
+    @Id
+    @Column(name = "session_id")
+    private Integer sessionId;
+
+    // 분석 로직이 바뀌면 올려서 예전 결과를 다시 계산하도록 함 (TrackAggregator.VERSION)
+    @Column(name = "analysis_version", nullable = false)
+    private Integer analysisVersion;
+
+    @Type(com.vladmihalcea.hibernate.type.json.JsonType.class)
+    @Column(columnDefinition = "jsonb", nullable = false)
+    private AnalysisRes analysis;
+
+    @Column(name = "computed_at", nullable = false)
+    private Instant computedAt;
+
+    public SessionAnalysis(Integer sessionId, Integer analysisVersion, AnalysisRes analysis) {
+        this.sessionId = sessionId;
+        this.analysisVersion = analysisVersion;
+        this.analysis = analysis;
+        this.computedAt = Instant.now();
+    }
+}
@@ -0,0 +1,34 @@
+package com.aidredaline.backend.domain.runningsession.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 일시정지 구간 (일시정지 1회당 1행)
+ * - pause: 열린 구간 INSERT, resume: 열린 구간을 닫고 totalPausedDuration에 더함 (SessionPauseRepository)
+ * - 세션당 열린 구간(resumed_at IS NULL)은 최대 1개 (부분 유니크 인덱스)
+ */
+@Entity
+@Table(name = "session_pauses")
+@Getter
+@NoArgsConstructor
+public class SessionPause {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "pause_id")
+    private Long pauseId;
+
+    @Column(name = "session_id", nullable = false)
+    private Integer sessionId;
+
+    @Column(name = "paused_at", nullable = false)
+    private Instant pausedAt;
+
+    // 재개 전이면 null
+    @Column(name = "resumed_at")
+    private Instant resumedAt;
+}
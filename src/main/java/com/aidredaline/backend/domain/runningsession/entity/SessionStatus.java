@@ -0,0 +1,48 @@
+package com.aidredaline.backend.domain.runningsession.entity;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * 러닝 세션 상태 (DB/JSON 값은 소문자 문자열: in_progress / paused / completed)
+ * ------------------------------------
+ * 허용 전이:
+ *   IN_PROGRESS → PAUSED, COMPLETED
+ *   PAUSED      → IN_PROGRESS, COMPLETED
+ *   COMPLETED   → (없음)
+ */
+public enum SessionStatus {
+
+    IN_PROGRESS("in_progress"),
+    PAUSED("paused"),
+    COMPLETED("completed");
+
+    private final String value;
+
+    SessionStatus(String value) {
+        this.value = value;
+    }
+
+    @JsonValue
+    public String value() {
+        return value;
+    }
+
+    public boolean isActive() {
+        return this != COMPLETED;
+    }
+
+    public boolean canTransitionTo(SessionStatus next) {
+        return switch (this) {
+            case IN_PROGRESS -> next == PAUSED || next == COMPLETED;
+            case PAUSED -> next == IN_PROGRESS || next == COMPLETED;
+            case COMPLETED -> false;
+        };
+    }
+
+    public static SessionStatus from(String value) {
+        for (SessionStatus status : values()) {
+            if (status.value.equals(value)) return status;
+        }
+        throw new IllegalArgumentException("Unknown session status: " + value);
+    }
+}
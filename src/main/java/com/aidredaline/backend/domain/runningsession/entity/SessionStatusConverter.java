@@ -0,0 +1,21 @@
+package com.aidredaline.backend.domain.runningsession.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * SessionStatus ↔ running_sessions.status 문자열 (기존 값 그대로 유지 → native 쿼리의 'completed' 등도 그대로 동작)
+ */
+@Converter(autoApply = true)
+public class SessionStatusConverter implements AttributeConverter<SessionStatus, String> {
+
+    @Override
+    public String convertToDatabaseColumn(SessionStatus status) {
+        return status != null ? status.value() : null;
+    }
+
+    @Override
+    public SessionStatus convertToEntityAttribute(String value) {
+        return value != null ? SessionStatus.from(value) : null;
+    }
+}
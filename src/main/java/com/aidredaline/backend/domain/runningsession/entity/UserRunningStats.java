@@ -0,0 +1,43 @@
+package com.aidredaline.backend.domain.runningsession.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 사용자별 완료 세션 누적 통계 (사용자당 1행)
+ * - complete() 시 UPSERT로 증분 갱신, UserStatsRebuildJob이 주기적으로 running_sessions에서 다시 집계
+ * - 평균 페이스 = paceSum / paceCount (averagePace가 없는 세션은 제외, 기존 AVG 집계와 동일)
+ */
+@Entity
+@Table(name = "user_running_stats")
+@Getter
+@NoArgsConstructor
+public class UserRunningStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Column(name = "total_runs", nullable = false)
+    private Integer totalRuns;
+
+    @Column(name = "total_distance", nullable = false)
+    private BigDecimal totalDistance;
+
+    @Column(name = "pace_sum", nullable = false)
+    private BigDecimal paceSum;
+
+    @Column(name = "pace_count", nullable = false)
+    private Integer paceCount;
+
+    // 가장 빠른 평균 페이스 (min/km, 0보다 큰 값만)
+    @Column(name = "best_pace")
+    private BigDecimal bestPace;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -0,0 +1,60 @@
+package com.aidredaline.backend.domain.runningsession.entity;
+
+import com.aidredaline.backend.domain.runningsession.stats.StatsGranularity;
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 사용자별 기간(주/월/년) 누적 통계 (완료 세션 기준)
+ * - complete() 시 세 단위 버킷을 한 번에 UPSERT, UserStatsRebuildJob이 재집계
+ * - PK (user_id, granularity, bucket_start) 인덱스 하나로 기간 조회
+ */
+@Entity
+@Table(name = "user_running_stats_buckets")
+@IdClass(UserRunningStatsBucket.Key.class)
+@Getter
+@NoArgsConstructor
+public class UserRunningStatsBucket {
+
+    @Id
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private StatsGranularity granularity;
+
+    // 버킷 시작일 (한국 시간 기준)
+    @Id
+    @Column(name = "bucket_start")
+    private LocalDate bucketStart;
+
+    @Column(name = "total_runs", nullable = false)
+    private Integer totalRuns;
+
+    @Column(name = "total_distance", nullable = false)
+    private BigDecimal totalDistance;
+
+    // 초
+    @Column(name = "moving_time", nullable = false)
+    private Long movingTime;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Integer userId;
+        private StatsGranularity granularity;
+        private LocalDate bucketStart;
+    }
+}
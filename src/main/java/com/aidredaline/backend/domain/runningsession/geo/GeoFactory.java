@@ -12,4 +12,13 @@ public class GeoFactory {
     public Point point(double lat, double lng) {
         return gf.createPoint(new Coordinate(lng, lat));
     }
+
+    // 위/경도 병렬 배열의 앞 n개로 LineString 생성
+    public LineString lineString(double[] lat, double[] lng, int n) {
+        Coordinate[] coordinates = new Coordinate[n];
+        for (int i = 0; i < n; i++) {
+            coordinates[i] = new Coordinate(lng[i], lat[i]);
+        }
+        return gf.createLineString(coordinates);
+    }
 }
@@ -0,0 +1,28 @@
+package com.aidredaline.backend.domain.runningsession.geo;
+
+/**
+ * Kahan(보정) 합산기
+ * - 수만 개의 짧은 구간 거리(수 m)를 큰 누적값(수십 km)에 더할 때 생기는 반올림 오차 보정
+ * - 스레드 안전하지 않음 (호출 측에서 동기화)
+ */
+public final class KahanSum {
+
+    private double sum;
+    private double compensation;
+
+    public void add(double value) {
+        double y = value - compensation;
+        double t = sum + y;
+        compensation = (t - sum) - y;
+        sum = t;
+    }
+
+    public double value() {
+        return sum;
+    }
+
+    public void reset(double value) {
+        sum = value;
+        compensation = 0;
+    }
+}
@@ -0,0 +1,49 @@
+package com.aidredaline.backend.domain.runningsession.geo;
+
+import com.aidredaline.backend.domain.runningsession.repository.GpsTrackingPointRepositoryCustom.PointCallback;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.simplify.DouglasPeuckerSimplifier;
+
+import java.util.Arrays;
+
+/**
+ * 스트리밍 조회한 GPS 포인트로 경로(LineString) 생성
+ * - 좌표만 원시 배열에 모음 (포인트 엔티티/DTO 없음)
+ */
+public class PathCollector implements PointCallback {
+
+    private double[] lat = new double[256];
+    private double[] lng = new double[256];
+    private int size;
+
+    @Override
+    public void accept(double lat, double lng, long recordedAtMillis,
+                       double speed, double altitude, double accuracy) {
+        if (size == this.lat.length) {
+            this.lat = Arrays.copyOf(this.lat, size * 2);
+            this.lng = Arrays.copyOf(this.lng, size * 2);
+        }
+        this.lat[size] = lat;
+        this.lng[size] = lng;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param toleranceDeg Douglas-Peucker 허용 오차 (도 단위, 0 이하면 단순화 안 함)
+     * @return 포인트가 2개 미만이면 null
+     */
+    public LineString toLineString(GeoFactory geo, double toleranceDeg) {
+        if (size < 2) return null;
+
+        LineString line = geo.lineString(lat, lng, size);
+        if (toleranceDeg <= 0) return line;
+
+        LineString simplified = (LineString) DouglasPeuckerSimplifier.simplify(line, toleranceDeg);
+        simplified.setSRID(line.getSRID());
+        return simplified;
+    }
+}
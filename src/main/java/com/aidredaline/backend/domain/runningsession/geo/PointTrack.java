@@ -0,0 +1,103 @@
+package com.aidredaline.backend.domain.runningsession.geo;
+
+import com.aidredaline.backend.domain.runningsession.repository.GpsTrackingPointRepositoryCustom.PointCallback;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.simplify.DouglasPeuckerSimplifier;
+
+import java.util.Arrays;
+
+/**
+ * 스트리밍 조회한 GPS 포인트 전체 컬럼을 원시 배열로 보관 (단순화 후 원래 값 복원용)
+ * - 좌표만 필요하면 PathCollector 사용
+ * - 값이 없는 speed/altitude/accuracy는 NaN
+ */
+public class PointTrack implements PointCallback {
+
+    private double[] lat = new double[256];
+    private double[] lng = new double[256];
+    private long[] time = new long[256];
+    private double[] speed = new double[256];
+    private double[] altitude = new double[256];
+    private double[] accuracy = new double[256];
+    private int size;
+
+    @Override
+    public void accept(double lat, double lng, long recordedAtMillis,
+                       double speed, double altitude, double accuracy) {
+        if (size == this.lat.length) grow();
+        this.lat[size] = lat;
+        this.lng[size] = lng;
+        this.time[size] = recordedAtMillis;
+        this.speed[size] = speed;
+        this.altitude[size] = altitude;
+        this.accuracy[size] = accuracy;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double lat(int i) {
+        return lat[i];
+    }
+
+    public double lng(int i) {
+        return lng[i];
+    }
+
+    public long time(int i) {
+        return time[i];
+    }
+
+    public double speed(int i) {
+        return speed[i];
+    }
+
+    public double altitude(int i) {
+        return altitude[i];
+    }
+
+    public double accuracy(int i) {
+        return accuracy[i];
+    }
+
+    /**
+     * Douglas-Peucker 단순화 후 남은 포인트의 인덱스 (오름차순)
+     * - JTS 결과 좌표는 원본 좌표의 부분 수열이므로 앞에서부터 한 번 훑어 인덱스로 되돌림
+     * @param toleranceDeg 허용 오차 (도 단위, 0 이하면 전체)
+     */
+    public int[] simplifiedIndices(GeoFactory geo, double toleranceDeg) {
+        if (size < 3 || toleranceDeg <= 0) return identity();
+
+        LineString line = geo.lineString(lat, lng, size);
+        Coordinate[] kept = DouglasPeuckerSimplifier.simplify(line, toleranceDeg).getCoordinates();
+
+        int[] indices = new int[kept.length];
+        int n = 0;
+        int i = 0;
+        for (Coordinate c : kept) {
+            while (i < size && (lng[i] != c.getX() || lat[i] != c.getY())) i++;
+            if (i == size) break;
+            indices[n++] = i++;
+        }
+        return n == indices.length ? indices : Arrays.copyOf(indices, n);
+    }
+
+    private int[] identity() {
+        int[] indices = new int[size];
+        for (int i = 0; i < size; i++) indices[i] = i;
+        return indices;
+    }
+
+    private void grow() {
+        int capacity = size * 2;
+        lat = Arrays.copyOf(lat, capacity);
+        lng = Arrays.copyOf(lng, capacity);
+        time = Arrays.copyOf(time, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        altitude = Arrays.copyOf(altitude, capacity);
+        accuracy = Arrays.copyOf(accuracy, capacity);
+    }
+}
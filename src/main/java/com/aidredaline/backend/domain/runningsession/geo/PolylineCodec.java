@@ -0,0 +1,82 @@
+package com.aidredaline.backend.domain.runningsession.geo;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.LineString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encoded Polyline 인코딩/디코딩 (Google Polyline Algorithm, 소수점 5자리)
+ * - 좌표당 수 바이트 문자열로 압축 → GpsPointRes JSON 목록 대비 수십 분의 일 크기
+ * - 순서는 (lat, lng), JTS 좌표는 (x=lng, y=lat)이므로 주의
+ */
+public final class PolylineCodec {
+
+    public static final String ENCODING = "polyline5";
+
+    private static final double FACTOR = 1e5;
+
+    private PolylineCodec() {
+    }
+
+    public static String encode(LineString line) {
+        if (line == null || line.isEmpty()) return "";
+
+        StringBuilder sb = new StringBuilder(line.getNumPoints() * 6);
+        long prevLat = 0;
+        long prevLng = 0;
+        for (int i = 0; i < line.getNumPoints(); i++) {
+            Coordinate c = line.getCoordinateN(i);
+            long lat = Math.round(c.getY() * FACTOR);
+            long lng = Math.round(c.getX() * FACTOR);
+            encodeValue(lat - prevLat, sb);
+            encodeValue(lng - prevLng, sb);
+            prevLat = lat;
+            prevLng = lng;
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return [lat, lng] 목록
+     */
+    public static List<double[]> decode(String encoded) {
+        List<double[]> points = new ArrayList<>();
+        int index = 0;
+        long lat = 0;
+        long lng = 0;
+        while (index < encoded.length()) {
+            long[] result = decodeValue(encoded, index);
+            lat += result[0];
+            result = decodeValue(encoded, (int) result[1]);
+            lng += result[0];
+            index = (int) result[1];
+            points.add(new double[]{lat / FACTOR, lng / FACTOR});
+        }
+        return points;
+    }
+
+    private static void encodeValue(long value, StringBuilder sb) {
+        long v = value < 0 ? ~(value << 1) : (value << 1);
+        while (v >= 0x20) {
+            sb.append((char) ((0x20 | (v & 0x1f)) + 63));
+            v >>= 5;
+        }
+        sb.append((char) (v + 63));
+    }
+
+    // [값, 다음 인덱스]
+    private static long[] decodeValue(String encoded, int index) {
+        long result = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = encoded.charAt(index++) - 63;
+            result |= (long) (b & 0x1f) << shift;
+            shift += 5;
+        } while (b >= 0x20);
+        long value = (result & 1) != 0 ? ~(result >> 1) : (result >> 1);
+        return new long[]{value, index};
+    }
+}
@@ -0,0 +1,34 @@
+package com.aidredaline.backend.domain.runningsession.geo;
+
+/**
+ * GPS 트랙 계산용 수학 함수 모음 (원시 타입 전용, 포인트당 객체 할당 없음)
+ * - 좌표는 WGS84 위/경도(도), 거리는 미터
+ * - 트랙 누적(거리 Kahan 합산, 속도, split)은 TrackAggregator / ActiveSession이 포인트 단위로 처리
+ */
+public final class TrackMath {
+
+    public static final double EARTH_RADIUS_M = 6371000;
+
+    private TrackMath() {
+    }
+
+    // 두 지점 사이 거리 (Haversine)
+    public static double haversine(double lat1Deg, double lng1Deg, double lat2Deg, double lng2Deg) {
+        double lat1 = Math.toRadians(lat1Deg);
+        double lat2 = Math.toRadians(lat2Deg);
+        double dLat = lat2 - lat1;
+        double dLon = Math.toRadians(lng2Deg - lng1Deg);
+        double sinLat = Math.sin(dLat / 2);
+        double sinLon = Math.sin(dLon / 2);
+        double a = sinLat * sinLat + Math.cos(lat1) * Math.cos(lat2) * sinLon * sinLon;
+        return EARTH_RADIUS_M * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    /**
+     * 지도 줌 레벨에서 화면 1픽셀에 해당하는 경도 폭 (Web Mercator, 256px 타일)
+     * - 경로 단순화 허용 오차로 사용 → 그 줌에서 눈에 보이지 않는 꼭짓점만 제거
+     */
+    public static double degreesPerPixel(int zoom) {
+        return 360.0 / (256L << zoom);
+    }
+}
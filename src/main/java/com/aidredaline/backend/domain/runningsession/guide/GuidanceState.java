@@ -0,0 +1,28 @@
+package com.aidredaline.backend.domain.runningsession.guide;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 세션별 경로 안내 상태 (ActiveSession이 보유)
+ * - 필드는 RouteGuidance의 lock 보유 중에만 접근
+ */
+public class GuidanceState {
+
+    final ReentrantLock lock = new ReentrantLock();
+
+    // 경로 이탈 히스테리시스
+    boolean offRoute;
+    int offCount;
+    int onCount;
+
+    // 진행 위치 (선형 참조, m)
+    boolean progressKnown;
+    int progressSegment;
+    double progressAlong;
+    double maxAlong;        // 지금까지 도달한 가장 먼 위치 (진행률 기준)
+    int milestones;         // 이미 안내한 PROGRESS_30/50/80, ROUTE_COMPLETE 비트
+
+    // 서버 측 턴 안내 (serverGuidance 세션만, 트리거 위치 순 정렬)
+    volatile TurnCue[] turnCues;    // 처음 사용할 때 한 번만 채움 (lock 밖에서 읽음)
+    int turnCursor;                 // 다음에 확인할 안내 (앞으로만 이동 → 각 안내 최대 1회)
+}
@@ -0,0 +1,312 @@
+package com.aidredaline.backend.domain.runningsession.guide;
+
+import com.aidredaline.backend.domain.guidance.dto.GuidancePointDto;
+import com.aidredaline.backend.domain.guidance.service.VoiceGuidanceService;
+import com.aidredaline.backend.domain.runningsession.dto.GuidanceEventRes;
+import com.aidredaline.backend.domain.runningsession.live.ActiveSession;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.LineString;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 서버 측 경로 안내 판단 (포인트마다 호출)
+ * ------------------------------------
+ * - 경로 이탈: RouteIndex 최근접 구간까지 거리 + 히스테리시스
+ *   · off-route-distance-m 보다 먼 포인트가 off-route-fixes 번 연속 → OFF_ROUTE
+ *   · 이탈 상태에서 on-route-distance-m 이내 포인트가 on-route-fixes 번 연속 → 복귀
+ *   · 튀는 포인트 1개로는 상태가 바뀌지 않음
+ * - 진행률: 직전 진행 위치 주변 구간만 보는 선형 참조 (RouteIndex.locateNear)
+ *   · 주변에서 못 찾으면(지름길, 이탈 후 합류) 직전 위치 이후 전체에서 재탐색 (LengthIndexedLine)
+ *   · 이탈 중에는 진행 위치를 갱신하지 않음
+ *   · 30/50/80% 도달 시 PROGRESS_30/50/80, 남은 거리가 complete-distance-m 이내면 ROUTE_COMPLETE (각 1회)
+ * - 턴 안내 (serverGuidance 세션만): TurnPoint를 트리거 위치(distanceFromStart - triggerDistance) 순으로 정렬,
+ *   진행 위치가 트리거 위치를 지나면 해당 guidanceId 안내
+ *   · 커서가 앞으로만 이동하므로 포인트당 분할 상환 O(1), 각 안내 최대 1회
+ *   · 안내 지점을 turn-passed-m 넘게 지나친 뒤에야 도달한 안내(재탐색으로 건너뜀 등)는 버림
+ * - 경로가 없는 세션은 아무것도 하지 않음
+ *
+ * 메트릭:
+ * - guidance.off_route : OFF_ROUTE 발생 수
+ * - guidance.turn      : 턴 안내 수 (result=fired/skipped)
+ */
+@Component
+public class RouteGuidance {
+
+    public static final Result NONE = new Result(null, false, null, null, List.of());
+
+    // 진행률 안내 (비율, 안내 ID) - 비트 순서는 GuidanceState.milestones
+    private static final double[] MILESTONE_FRACTIONS = {0.3, 0.5, 0.8};
+    private static final String[] MILESTONE_IDS = {"PROGRESS_30", "PROGRESS_50", "PROGRESS_80"};
+    private static final int ROUTE_COMPLETE_BIT = 1 << MILESTONE_IDS.length;
+
+    private final RouteIndexCache routeIndexCache;
+    private final LoadingCache<String, Announcement> announcements;
+    private final VoiceGuidanceService voiceGuidanceService;
+    private final Counter offRouteCounter;
+    private final Counter turnFiredCounter;
+    private final Counter turnSkippedCounter;
+
+    @Value("${running.guidance.enabled:true}")
+    private boolean enabled;
+
+    @Value("${running.guidance.off-route-distance-m:30}")
+    private double offRouteDistanceM;
+
+    @Value("${running.guidance.on-route-distance-m:20}")
+    private double onRouteDistanceM;
+
+    @Value("${running.guidance.off-route-fixes:3}")
+    private int offRouteFixes;
+
+    @Value("${running.guidance.on-route-fixes:2}")
+    private int onRouteFixes;
+
+    @Value("${running.guidance.progress-lookahead-m:150}")
+    private double lookaheadM;
+
+    @Value("${running.guidance.complete-distance-m:30}")
+    private double completeDistanceM;
+
+    @Value("${running.guidance.turn-passed-m:30}")
+    private double turnPassedM;
+
+    /**
+     * 포인트 1개에 대한 안내 판단 결과
+     * @param distanceFromRoute 경로까지 거리 (m, 경로 없으면 null)
+     * @param offRoute          현재 이탈 상태
+     * @param progress          진행률 (0~1, 지금까지 도달한 가장 먼 위치 기준)
+     * @param distanceRemaining 남은 경로 거리 (m)
+     * @param events            이번 포인트에서 새로 발생한 이벤트
+     */
+    public record Result(Double distanceFromRoute, boolean offRoute, Double progress, Double distanceRemaining,
+                         List<GuidanceEventRes> events) {}
+
+    // 안내 ID별 텍스트 / TTS URL (템플릿 테이블은 거의 바뀌지 않으므로 캐시)
+    private record Announcement(String text, String ttsUrl) {}
+
+    public RouteGuidance(RouteIndexCache routeIndexCache,
+                         VoiceGuidanceService voiceGuidanceService,
+                         MeterRegistry registry) {
+        this.routeIndexCache = routeIndexCache;
+        this.voiceGuidanceService = voiceGuidanceService;
+        this.announcements = Caffeine.newBuilder()
+                .maximumSize(200)
+                .build(id -> new Announcement(
+                        voiceGuidanceService.getGuidanceText(id),
+                        voiceGuidanceService.getTtsUrl(id)));
+        this.offRouteCounter = Counter.builder("guidance.off_route")
+                .description("경로 이탈 안내 발생 수")
+                .register(registry);
+        this.turnFiredCounter = Counter.builder("guidance.turn")
+                .tag("result", "fired")
+                .description("서버 측 턴 안내 수")
+                .register(registry);
+        this.turnSkippedCounter = Counter.builder("guidance.turn")
+                .tag("result", "skipped")
+                .description("서버 측 턴 안내 수")
+                .register(registry);
+    }
+
+    /**
+     * 서버 측 턴 안내 준비 (start 응답용으로 이미 조회한 안내 지점 재사용)
+     */
+    public void prepareTurnCues(ActiveSession active, List<GuidancePointDto> points) {
+        active.getGuidanceState().turnCues = TurnCue.sorted(points);
+    }
+
+    public Result onFix(ActiveSession active, double lat, double lng) {
+        if (!enabled) return NONE;
+
+        Optional<RouteIndex> index = routeIndexCache.get(active.getRouteId());
+        if (index.isEmpty()) return NONE;
+
+        RouteIndex route = index.get();
+        RouteIndex.Match nearest = route.nearest(lat, lng);
+        GuidanceState state = active.getGuidanceState();
+        TurnCue[] cues = active.isServerGuidance() ? turnCues(active) : null;
+        List<GuidanceEventRes> events = new ArrayList<>(1);
+
+        state.lock.lock();
+        try {
+            checkOffRoute(state, nearest.distance(), events);
+            if (!state.offRoute && updateProgress(route, state, lat, lng, nearest, events) && cues != null) {
+                checkTurnCues(state, cues, events);
+            }
+
+            double remaining = Math.max(route.length() - state.maxAlong, 0);
+            return new Result(nearest.distance(), state.offRoute, fraction(route, state), remaining,
+                    events.isEmpty() ? List.of() : events);
+        } finally {
+            state.lock.unlock();
+        }
+    }
+
+    /**
+     * 완료율 (%) - 세션 진행 중 도달한 가장 먼 위치 기준
+     * @return 안내가 꺼져 있거나(진행 위치를 추적하지 않음), 경로가 없거나, 진행 위치를 한 번도 못 잡았으면 null
+     *         → 호출 측은 저장된 경로로 다시 계산
+     */
+    public BigDecimal completionRate(ActiveSession active) {
+        if (!enabled) return null;
+
+        Optional<RouteIndex> index = routeIndexCache.get(active.getRouteId());
+        if (index.isEmpty()) return null;
+
+        GuidanceState state = active.getGuidanceState();
+        state.lock.lock();
+        try {
+            return toPercent(index.get(), state);
+        } finally {
+            state.lock.unlock();
+        }
+    }
+
+    /**
+     * 완료율 (%) - 저장된 완료 경로(actualPath)를 처음부터 다시 따라가며 계산 (재시작/재계산용)
+     * @return 안내가 꺼져 있거나, 경로/완료 경로가 없거나, 경로 위에 한 번도 올라오지 않았으면 null
+     *         → 호출 측은 거리 비율로 대신함
+     */
+    public BigDecimal completionRate(Integer routeId, LineString path) {
+        if (!enabled || path == null) return null;
+
+        Optional<RouteIndex> index = routeIndexCache.get(routeId);
+        if (index.isEmpty()) return null;
+
+        RouteIndex route = index.get();
+        GuidanceState state = new GuidanceState();
+        List<GuidanceEventRes> ignored = new ArrayList<>();
+        for (Coordinate c : path.getCoordinates()) {
+            RouteIndex.Match nearest = route.nearest(c.getY(), c.getX());
+            if (nearest.distance() <= offRouteDistanceM) {
+                updateProgress(route, state, c.getY(), c.getX(), nearest, ignored);
+            }
+        }
+        return toPercent(route, state);
+    }
+
+    // 레지스트리 미스로 다시 만든 세션이면 여기서 한 번 조회 (동시에 두 번 조회돼도 결과는 같음)
+    private TurnCue[] turnCues(ActiveSession active) {
+        GuidanceState state = active.getGuidanceState();
+        TurnCue[] cues = state.turnCues;
+        if (cues == null) {
+            cues = TurnCue.sorted(voiceGuidanceService.getGuidancePoints(active.getRouteId()));
+            state.turnCues = cues;
+        }
+        return cues;
+    }
+
+    // 진행 위치가 트리거 위치를 지난 안내를 커서 순서대로 처리
+    private void checkTurnCues(GuidanceState state, TurnCue[] cues, List<GuidanceEventRes> events) {
+        double along = state.progressAlong;
+        while (state.turnCursor < cues.length) {
+            TurnCue cue = cues[state.turnCursor];
+            if (along < cue.triggerAt()) break;
+            state.turnCursor++;
+
+            if (along > cue.at() + turnPassedM) {
+                turnSkippedCounter.increment();
+                continue;
+            }
+            turnFiredCounter.increment();
+            events.add(new GuidanceEventRes("turn", cue.guidanceId(), cue.guidanceText(), cue.ttsUrl(), null,
+                    BigDecimal.valueOf(Math.max(cue.at() - along, 0)).setScale(1, RoundingMode.HALF_UP)));
+        }
+    }
+
+    /**
+     * @return 진행 위치 갱신 여부
+     */
+    private boolean updateProgress(RouteIndex route, GuidanceState state, double lat, double lng,
+                                   RouteIndex.Match nearest, List<GuidanceEventRes> events) {
+        RouteIndex.Match match = route.locateNear(lat, lng,
+                state.progressKnown ? state.progressSegment : 0, lookaheadM);
+
+        // 주변에 경로가 없으면 (최근접 구간보다 확실히 멀면) 직전 위치 이후에서 다시 찾음
+        // - 진행 위치를 아직 모르면 출발점 주변에서 먼저 찾고 (순환 경로), 없으면 경로 전체에서 찾음
+        //   (레지스트리에서 다시 만든 세션은 경로 중간에서 시작)
+        boolean lost = state.progressKnown
+                ? match.distance() > nearest.distance() + onRouteDistanceM
+                : match.distance() > offRouteDistanceM;
+        if (lost) {
+            match = route.locateAfter(lat, lng, state.progressKnown ? state.progressAlong : 0);
+        }
+        if (match.distance() > offRouteDistanceM) return false;
+
+        state.progressKnown = true;
+        state.progressSegment = match.segmentIndex();
+        state.progressAlong = match.alongLength();
+        state.maxAlong = Math.max(state.maxAlong, match.alongLength());
+
+        double fraction = fraction(route, state);
+        for (int i = 0; i < MILESTONE_FRACTIONS.length; i++) {
+            int bit = 1 << i;
+            if ((state.milestones & bit) == 0 && fraction >= MILESTONE_FRACTIONS[i]) {
+                state.milestones |= bit;
+                events.add(event("progress", MILESTONE_IDS[i], null));
+            }
+        }
+        // 출발점=도착점인 순환 경로에서 출발 직후 완료되지 않도록 절반 이상 진행 후에만 판단
+        if ((state.milestones & ROUTE_COMPLETE_BIT) == 0 && fraction >= 0.5
+                && route.length() - state.maxAlong <= completeDistanceM) {
+            state.milestones |= ROUTE_COMPLETE_BIT;
+            events.add(event("progress", "ROUTE_COMPLETE", null));
+        }
+        return true;
+    }
+
+    private static Double fraction(RouteIndex route, GuidanceState state) {
+        if (!state.progressKnown || route.length() <= 0) return null;
+        return Math.min(state.maxAlong / route.length(), 1.0);
+    }
+
+    // 진행 위치를 모르면 null (0%와 구분)
+    private static BigDecimal toPercent(RouteIndex route, GuidanceState state) {
+        Double fraction = fraction(route, state);
+        if (fraction == null) return null;
+        return BigDecimal.valueOf(fraction * 100).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private void checkOffRoute(GuidanceState state, double distance, List<GuidanceEventRes> events) {
+        if (!state.offRoute) {
+            state.offCount = distance > offRouteDistanceM ? state.offCount + 1 : 0;
+            if (state.offCount >= offRouteFixes) {
+                state.offRoute = true;
+                state.offCount = 0;
+                state.onCount = 0;
+                offRouteCounter.increment();
+                events.add(event("off_route", "OFF_ROUTE", distance));
+            }
+        } else {
+            state.onCount = distance <= onRouteDistanceM ? state.onCount + 1 : 0;
+            if (state.onCount >= onRouteFixes) {
+                state.offRoute = false;
+                state.onCount = 0;
+                state.offCount = 0;
+                events.add(event("on_route", null, distance));
+            }
+        }
+    }
+
+    private GuidanceEventRes event(String type, String guidanceId, Double distance) {
+        Announcement a = guidanceId != null ? announcements.get(guidanceId) : null;
+        return new GuidanceEventRes(
+                type,
+                guidanceId,
+                a != null ? a.text() : null,
+                a != null ? a.ttsUrl() : null,
+                distance != null ? BigDecimal.valueOf(distance).setScale(1, RoundingMode.HALF_UP) : null,
+                null
+        );
+    }
+}
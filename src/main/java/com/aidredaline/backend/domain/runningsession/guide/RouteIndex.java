@@ -0,0 +1,167 @@
+package com.aidredaline.backend.domain.runningsession.guide;
+
+import com.aidredaline.backend.domain.runningsession.geo.TrackMath;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineSegment;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.index.strtree.ItemDistance;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jts.linearref.LengthIndexedLine;
+
+/**
+ * 경로(GeneratedRoute.routePath) 공간 인덱스 (경로당 1회 생성 후 캐시, 생성 후에는 읽기 전용이라 스레드 안전)
+ * - 좌표를 경로 시작점 기준 평면(m)으로 투영 → 거리 계산이 미터 단위 평면 연산
+ * - 구간(segment)마다 STRtree에 넣어 가장 가까운 구간을 O(log n)으로 찾음
+ * - 진행 위치(선형 참조)는 직전 구간 주변만 훑는 locateNear, 위치를 잃었을 때만 LengthIndexedLine으로 재탐색
+ * - 투영은 등장방형(equirectangular) 근사, 러닝 경로 범위(수 km)에서는 오차 무시 가능
+ */
+public final class RouteIndex {
+
+    private static final double METERS_PER_DEGREE = TrackMath.EARTH_RADIUS_M * Math.PI / 180;
+
+    // locateNear에서 직전 구간보다 뒤로 몇 구간까지 볼지 (GPS 흔들림으로 살짝 뒤로 찍히는 경우)
+    private static final int BACKTRACK_SEGMENTS = 2;
+
+    private static final ItemDistance SEGMENT_DISTANCE = (a, b) -> {
+        Object itemA = a.getItem();
+        Object itemB = b.getItem();
+        Segment segment = (Segment) (itemA instanceof Segment ? itemA : itemB);
+        Coordinate point = (Coordinate) (itemA instanceof Segment ? itemB : itemA);
+        return segment.line().distance(point);
+    };
+
+    private final double originLat;
+    private final double originLng;
+    private final double metersPerDegreeLng;
+    private final STRtree tree;
+    private final Segment[] segments;
+    private final double length;
+    private final LengthIndexedLine indexedLine;
+
+    /**
+     * 경로 구간 (투영 좌표)
+     * @param index       구간 번호 (0부터)
+     * @param startLength 경로 시작점부터 이 구간 시작까지 길이 (m)
+     */
+    public record Segment(int index, LineSegment line, double startLength) {}
+
+    /**
+     * 가장 가까운 경로 위치
+     * @param distance    경로까지 거리 (m)
+     * @param alongLength 경로 시작점부터 가장 가까운 지점까지 길이 (m)
+     */
+    public record Match(double distance, double alongLength, int segmentIndex) {}
+
+    private RouteIndex(LineString routePath) {
+        Coordinate[] coords = routePath.getCoordinates();
+        this.originLat = coords[0].getY();
+        this.originLng = coords[0].getX();
+        this.metersPerDegreeLng = METERS_PER_DEGREE * Math.cos(Math.toRadians(originLat));
+
+        this.segments = new Segment[Math.max(coords.length - 1, 0)];
+        this.tree = new STRtree();
+        double along = 0;
+        for (int i = 0; i < segments.length; i++) {
+            LineSegment line = new LineSegment(project(coords[i].getY(), coords[i].getX()),
+                    project(coords[i + 1].getY(), coords[i + 1].getX()));
+            segments[i] = new Segment(i, line, along);
+            tree.insert(new Envelope(line.p0, line.p1), segments[i]);
+            along += line.getLength();
+        }
+        this.length = along;
+        tree.build();
+
+        Coordinate[] projected = new Coordinate[coords.length];
+        for (int i = 0; i < coords.length; i++) projected[i] = project(coords[i].getY(), coords[i].getX());
+        this.indexedLine = new LengthIndexedLine(new GeometryFactory().createLineString(projected));
+    }
+
+    /**
+     * @return 좌표가 2개 미만인 경로면 null
+     */
+    public static RouteIndex of(LineString routePath) {
+        if (routePath == null || routePath.getNumPoints() < 2) return null;
+        return new RouteIndex(routePath);
+    }
+
+    // 경로 전체 길이 (m)
+    public double length() {
+        return length;
+    }
+
+    public int segmentCount() {
+        return segments.length;
+    }
+
+    public Segment segment(int index) {
+        return segments[index];
+    }
+
+    public Coordinate project(double lat, double lng) {
+        return new Coordinate((lng - originLng) * metersPerDegreeLng, (lat - originLat) * METERS_PER_DEGREE);
+    }
+
+    /**
+     * 가장 가까운 경로 구간 (STRtree 최근접 탐색)
+     */
+    public Match nearest(double lat, double lng) {
+        Coordinate p = project(lat, lng);
+        Segment nearest = (Segment) tree.nearestNeighbour(new Envelope(p), p, SEGMENT_DISTANCE);
+        return match(nearest, p);
+    }
+
+    /**
+     * 직전 진행 위치 주변에서만 찾는 선형 참조 (포인트당 구간 몇 개만 확인)
+     * @param fromSegment 직전 진행 위치의 구간 번호
+     * @param lookaheadM  직전 구간 시작부터 앞으로 볼 거리 (m)
+     */
+    public Match locateNear(double lat, double lng, int fromSegment, double lookaheadM) {
+        Coordinate p = project(lat, lng);
+        int from = Math.min(Math.max(fromSegment, 0), segments.length - 1);
+        double limit = segments[from].startLength() + lookaheadM;
+
+        Segment best = null;
+        double bestDistance = Double.POSITIVE_INFINITY;
+        for (int i = Math.max(0, from - BACKTRACK_SEGMENTS); i < segments.length; i++) {
+            Segment segment = segments[i];
+            if (i > from && segment.startLength() > limit) break;
+            double d = segment.line().distance(p);
+            if (d < bestDistance) {
+                best = segment;
+                bestDistance = d;
+            }
+        }
+        return match(best, p);
+    }
+
+    /**
+     * minAlong 이후 구간 전체에서 찾는 선형 참조 (LengthIndexedLine, 위치를 잃었을 때만 사용)
+     * - 앞으로만 찾으므로 출발점과 도착점이 겹치는 순환 경로에서도 뒤쪽으로 튀지 않음
+     */
+    public Match locateAfter(double lat, double lng, double minAlong) {
+        Coordinate p = project(lat, lng);
+        double along = indexedLine.indexOfAfter(p, Math.max(0, minAlong));
+        double distance = indexedLine.extractPoint(along).distance(p);
+        return new Match(distance, along, segmentAt(along));
+    }
+
+    // 경로 시작점부터 길이 along 지점이 속한 구간 번호 (이진 탐색)
+    private int segmentAt(double along) {
+        int lo = 0;
+        int hi = segments.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (segments[mid].startLength() <= along) lo = mid;
+            else hi = mid - 1;
+        }
+        return lo;
+    }
+
+    static Match match(Segment segment, Coordinate p) {
+        LineSegment line = segment.line();
+        double fraction = line.segmentFraction(p);
+        return new Match(line.distance(p), segment.startLength() + fraction * line.getLength(), segment.index());
+    }
+}
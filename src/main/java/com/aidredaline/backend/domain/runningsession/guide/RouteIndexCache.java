@@ -0,0 +1,39 @@
+package com.aidredaline.backend.domain.runningsession.guide;
+
+import com.aidredaline.backend.domain.route.entity.GeneratedRoute;
+import com.aidredaline.backend.domain.route.repository.GeneratedRouteRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 경로 ID → RouteIndex 캐시
+ * - 같은 경로를 달리는 세션은 인덱스 하나를 공유, 경로 조회/인덱스 생성은 경로당 1회
+ * - 경로가 없거나 routePath가 비어 있으면 Optional.empty() 캐시 (이탈 감지 생략)
+ */
+@Component
+public class RouteIndexCache {
+
+    private final LoadingCache<Integer, Optional<RouteIndex>> cache;
+
+    public RouteIndexCache(
+            GeneratedRouteRepository routeRepo,
+            @Value("${running.guidance.route-cache-size:1000}") long maxRoutes
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxRoutes)
+                .expireAfterAccess(Duration.ofHours(6))
+                .build(routeId -> routeRepo.findById(routeId)
+                        .map(GeneratedRoute::getRoutePath)
+                        .map(RouteIndex::of));
+    }
+
+    public Optional<RouteIndex> get(Integer routeId) {
+        if (routeId == null) return Optional.empty();
+        return cache.get(routeId);
+    }
+}
@@ -0,0 +1,43 @@
+package com.aidredaline.backend.domain.runningsession.guide;
+
+import com.aidredaline.backend.domain.guidance.dto.GuidancePointDto;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 서버 측 턴 안내 1건 (경로 시작점 기준 거리, m)
+ * @param at        안내 지점 위치 (distanceFromStart)
+ * @param triggerAt 안내를 시작할 위치 (at - triggerDistance)
+ */
+record TurnCue(int sequence, String guidanceId, String guidanceText, String ttsUrl,
+               double at, double triggerAt) {
+
+    // TurnPoint 기본값과 동일
+    private static final double DEFAULT_TRIGGER_DISTANCE_M = 15.0;
+
+    /**
+     * 안내 지점 목록 → 트리거 위치 순으로 정렬된 배열 (커서가 앞으로만 이동할 수 있도록)
+     * - 위치나 안내 ID가 없는 지점은 제외
+     */
+    static TurnCue[] sorted(List<GuidancePointDto> points) {
+        return points.stream()
+                .filter(p -> p.getDistanceFromStart() != null && p.getGuidanceId() != null)
+                .map(TurnCue::of)
+                .sorted(Comparator.comparingDouble(TurnCue::triggerAt).thenComparingInt(TurnCue::sequence))
+                .toArray(TurnCue[]::new);
+    }
+
+    private static TurnCue of(GuidancePointDto p) {
+        double at = p.getDistanceFromStart().doubleValue();
+        double trigger = p.getTriggerDistance() != null ? p.getTriggerDistance() : DEFAULT_TRIGGER_DISTANCE_M;
+        return new TurnCue(
+                p.getSequence() != null ? p.getSequence() : 0,
+                p.getGuidanceId(),
+                p.getGuidanceText(),
+                p.getTtsUrl(),
+                at,
+                at - Math.max(trigger, 0)
+        );
+    }
+}
@@ -0,0 +1,265 @@
+package com.aidredaline.backend.domain.runningsession.ingest;
+
+import com.aidredaline.backend.domain.runningsession.entity.GpsTrackingPoint;
+import com.aidredaline.backend.domain.runningsession.repository.GpsTrackingPointRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * GPS 포인트 write-behind 버퍼
+ * ---------------------------
+ * - track() 요청 스레드에서는 세션별 버퍼에 추가만 하고 바로 응답
+ * - 크기(flush-size) 도달 시 비동기 flush, 그 외에는 주기(flush-interval-ms)마다 flush
+ * - complete / getPoints / analyze 는 조회 전에 flush(sessionId)를 호출해 누락 방지
+ * - 전체 버퍼가 max-depth를 넘으면 동기 저장으로 전환 (백프레셔)
+ *
+ * 메트릭:
+ * - gps.buffer.depth         : 버퍼에 대기 중인 포인트 수
+ * - gps.buffer.flush.latency : flush 1회 소요 시간
+ * - gps.buffer.dropped       : 재시도 초과로 폐기된 포인트 수
+ * - gps.buffer.overflow      : 버퍼 초과로 동기 저장된 포인트 수
+ */
+@Slf4j
+@Component
+public class GpsWriteBuffer {
+
+    private final GpsTrackingPointRepository gpsRepo;
+    private final TransactionTemplate tx;
+    private final Executor executor;
+
+    private final Map<Integer, SessionBuffer> buffers = new ConcurrentHashMap<>();
+    private final AtomicInteger depth = new AtomicInteger();
+
+    private final Timer flushTimer;
+    private final Counter droppedCounter;
+    private final Counter overflowCounter;
+
+    @Value("${gps.buffer.flush-size:30}")
+    private int flushSize;
+
+    @Value("${gps.buffer.max-depth:50000}")
+    private int maxDepth;
+
+    @Value("${gps.buffer.max-flush-attempts:3}")
+    private int maxFlushAttempts;
+
+    public GpsWriteBuffer(GpsTrackingPointRepository gpsRepo,
+                          PlatformTransactionManager transactionManager,
+                          @Qualifier("applicationTaskExecutor") Executor executor,
+                          MeterRegistry registry) {
+        this.gpsRepo = gpsRepo;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+
+        Gauge.builder("gps.buffer.depth", depth, AtomicInteger::get)
+                .description("버퍼에 대기 중인 GPS 포인트 수")
+                .register(registry);
+        this.flushTimer = Timer.builder("gps.buffer.flush.latency")
+                .description("GPS 버퍼 flush 소요 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+        this.droppedCounter = Counter.builder("gps.buffer.dropped")
+                .description("flush 재시도 초과로 폐기된 GPS 포인트 수")
+                .register(registry);
+        this.overflowCounter = Counter.builder("gps.buffer.overflow")
+                .description("버퍼 초과로 동기 저장된 GPS 포인트 수")
+                .register(registry);
+    }
+
+    /**
+     * 포인트를 버퍼에 추가 (즉시 반환)
+     * - 버퍼가 가득 찼으면 현재 트랜잭션에서 바로 저장
+     */
+    public void append(GpsTrackingPoint point) {
+        if (depth.incrementAndGet() > maxDepth) {
+            depth.decrementAndGet();
+            overflowCounter.increment();
+            gpsRepo.insertBatch(List.of(point));
+            return;
+        }
+
+        Integer sessionId = point.getSessionId();
+        SessionBuffer buffer;
+        int size;
+        do {
+            buffer = buffers.computeIfAbsent(sessionId, id -> new SessionBuffer());
+            size = buffer.offer(point);
+        } while (size < 0);  // 방금 정리(retire)된 버퍼면 새로 만들어 재시도
+
+        // 이미 예약된 flush가 있으면 추가로 예약하지 않음 (flush 전까지 append마다 작업이 쌓이지 않도록)
+        if (size >= flushSize && buffer.flushScheduled.compareAndSet(false, true)) {
+            SessionBuffer scheduled = buffer;
+            try {
+                executor.execute(() -> {
+                    // drain 전에 해제 → flush 중 다시 임계값을 넘으면 다음 flush를 예약할 수 있음
+                    scheduled.flushScheduled.set(false);
+                    flushQuietly(sessionId);
+                });
+            } catch (RuntimeException e) {
+                scheduled.flushScheduled.set(false);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 특정 세션의 버퍼를 즉시 저장 (조회 전 강제 flush)
+     * - 진행 중인 비동기 flush가 있으면 끝날 때까지 대기하므로 호출 후에는 누락이 없음
+     * - 쓰기 트랜잭션 안에서 호출하면 그 트랜잭션에 참여, 없으면 새 트랜잭션으로 저장
+     * - ⚠️ 읽기 전용 트랜잭션 안에서는 호출하지 말 것 (INSERT 불가)
+     */
+    public void flush(Integer sessionId) {
+        SessionBuffer buffer = buffers.get(sessionId);
+        if (buffer == null) return;
+
+        buffer.flushLock.lock();
+        try {
+            List<GpsTrackingPoint> drained = buffer.drain();
+            if (drained.isEmpty()) return;
+
+            try {
+                flushTimer.record(() -> tx.executeWithoutResult(status -> gpsRepo.insertBatch(drained)));
+                depth.addAndGet(-drained.size());
+                buffer.failedAttempts = 0;   // 재시도 횟수는 연속 실패 기준
+            } catch (RuntimeException e) {
+                requeueOrDrop(buffer, drained, e);
+                throw e;
+            }
+        } finally {
+            buffer.flushLock.unlock();
+        }
+    }
+
+    /**
+     * 세션 종료 시: 남은 포인트 저장 후 버퍼 제거
+     */
+    public void close(Integer sessionId) {
+        flush(sessionId);
+        buffers.computeIfPresent(sessionId, (id, b) -> b.retireIfEmpty() ? null : b);
+    }
+
+    // 주기적 flush (시간 임계값) + 비어 있는 버퍼 정리
+    @Scheduled(fixedDelayString = "${gps.buffer.flush-interval-ms:2000}")
+    public void flushAll() {
+        for (Integer sessionId : buffers.keySet()) {
+            flushQuietly(sessionId);
+            buffers.computeIfPresent(sessionId, (id, b) -> b.retireIfIdle() ? null : b);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        log.info("GPS 버퍼 종료 flush: sessions={}, points={}", buffers.size(), depth.get());
+        buffers.keySet().forEach(this::flushQuietly);
+    }
+
+    private void flushQuietly(Integer sessionId) {
+        try {
+            flush(sessionId);
+        } catch (RuntimeException e) {
+            log.error("GPS 버퍼 flush 실패: sessionId={}", sessionId, e);
+        }
+    }
+
+    private void requeueOrDrop(SessionBuffer buffer, List<GpsTrackingPoint> drained, RuntimeException cause) {
+        if (++buffer.failedAttempts < maxFlushAttempts) {
+            buffer.requeue(drained);
+            return;
+        }
+        log.error("GPS 포인트 폐기: sessionId={}, points={}, cause={}",
+                drained.get(0).getSessionId(), drained.size(), cause.getMessage());
+        buffer.failedAttempts = 0;
+        depth.addAndGet(-drained.size());
+        droppedCounter.increment(drained.size());
+    }
+
+    /**
+     * 세션별 append 버퍼
+     * - points 접근은 lock, drain+저장은 flushLock으로 직렬화
+     */
+    private static class SessionBuffer {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ReentrantLock flushLock = new ReentrantLock();
+        private final AtomicBoolean flushScheduled = new AtomicBoolean();  // 크기 임계값 flush 예약 여부
+        private List<GpsTrackingPoint> points = new ArrayList<>();
+        private boolean retired;
+        private boolean touched;
+        private int failedAttempts;  // 연속 실패 횟수, flushLock 보유 중에만 접근
+
+        // 추가 후 버퍼 크기 반환, 이미 정리된 버퍼면 -1
+        int offer(GpsTrackingPoint point) {
+            lock.lock();
+            try {
+                if (retired) return -1;
+                points.add(point);
+                touched = true;
+                return points.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        List<GpsTrackingPoint> drain() {
+            lock.lock();
+            try {
+                List<GpsTrackingPoint> drained = points;
+                points = new ArrayList<>();
+                return drained;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // 실패한 포인트를 앞쪽에 되돌려 넣음
+        void requeue(List<GpsTrackingPoint> drained) {
+            lock.lock();
+            try {
+                drained.addAll(points);
+                points = drained;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean retireIfEmpty() {
+            lock.lock();
+            try {
+                retired = points.isEmpty();
+                return retired;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // 한 주기 동안 추가가 없었고 비어 있으면 정리
+        boolean retireIfIdle() {
+            lock.lock();
+            try {
+                retired = !touched && points.isEmpty();
+                touched = false;
+                return retired;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.aidredaline.backend.domain.runningsession.ingest.filter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정확도 필터: 단말이 보고한 오차 반경이 기준보다 큰 포인트 거부
+ * - accuracy가 없으면 통과
+ */
+@Component
+@Order(10)
+public class AccuracyFilter implements GpsFixFilter {
+
+    @Value("${gps.filter.max-accuracy-m:30}")
+    private double maxAccuracyM;
+
+    @Override
+    public String name() {
+        return "accuracy";
+    }
+
+    @Override
+    public GpsFix apply(GpsFix fix, FilterState state) {
+        return fix.accuracy() > maxAccuracyM ? null : fix;
+    }
+}
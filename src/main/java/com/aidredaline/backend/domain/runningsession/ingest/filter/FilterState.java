@@ -0,0 +1,57 @@
+package com.aidredaline.backend.domain.runningsession.ingest.filter;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 세션별 필터 상태 (ActiveSession이 보유)
+ * - 필드는 GpsFilterPipeline의 lock 보유 중에만 접근
+ */
+public class FilterState {
+
+    final ReentrantLock lock = new ReentrantLock();
+
+    // 마지막으로 저장된 포인트 (필터 통과 후)
+    GpsFix lastAccepted;
+
+    // Kalman 평활 상태 (위/경도, 분산 m²)
+    boolean kalmanInitialized;
+    double kalmanLat;
+    double kalmanLng;
+    double kalmanVariance;
+    long kalmanMillis;
+
+    /**
+     * 현재 상태의 복사본 (일괄 업로드에서 저장 성공 전까지 임시로 사용)
+     */
+    public FilterState copy() {
+        FilterState copy = new FilterState();
+        lock.lock();
+        try {
+            copy.set(this);
+        } finally {
+            lock.unlock();
+        }
+        return copy;
+    }
+
+    /**
+     * 임시 상태를 반영 (저장 성공 후)
+     */
+    public void copyFrom(FilterState other) {
+        lock.lock();
+        try {
+            set(other);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void set(FilterState other) {
+        lastAccepted = other.lastAccepted;
+        kalmanInitialized = other.kalmanInitialized;
+        kalmanLat = other.kalmanLat;
+        kalmanLng = other.kalmanLng;
+        kalmanVariance = other.kalmanVariance;
+        kalmanMillis = other.kalmanMillis;
+    }
+}
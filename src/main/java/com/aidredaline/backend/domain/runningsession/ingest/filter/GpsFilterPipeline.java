@@ -0,0 +1,69 @@
+package com.aidredaline.backend.domain.runningsession.ingest.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * GPS 수집 필터 파이프라인 (저장 전 노이즈 제거)
+ * - 등록된 GpsFixFilter를 @Order 순서대로 적용: 정확도 → 속도 타당성 → (Kalman) → 정지 dead-band
+ * - 하나라도 거부하면 저장하지 않음, 통과하면 세션 상태의 마지막 저장 포인트 갱신
+ *
+ * 메트릭:
+ * - gps.filter.accepted                 : 통과한 포인트 수
+ * - gps.filter.rejected{filter=이름}     : 필터별 거부 수
+ */
+@Slf4j
+@Component
+public class GpsFilterPipeline {
+
+    private final List<GpsFixFilter> filters;
+    private final Counter[] rejectedCounters;
+    private final Counter acceptedCounter;
+
+    @Value("${gps.filter.enabled:true}")
+    private boolean enabled;
+
+    public GpsFilterPipeline(List<GpsFixFilter> filters, MeterRegistry registry) {
+        this.filters = List.copyOf(filters);
+        this.rejectedCounters = new Counter[this.filters.size()];
+        for (int i = 0; i < this.filters.size(); i++) {
+            rejectedCounters[i] = Counter.builder("gps.filter.rejected")
+                    .description("수집 필터가 거부한 GPS 포인트 수")
+                    .tag("filter", this.filters.get(i).name())
+                    .register(registry);
+        }
+        this.acceptedCounter = Counter.builder("gps.filter.accepted")
+                .description("수집 필터를 통과한 GPS 포인트 수")
+                .register(registry);
+        log.info("GPS 수집 필터: {}", this.filters.stream().map(GpsFixFilter::name).toList());
+    }
+
+    /**
+     * @return 저장할 값 (보정되었을 수 있음), 거부되면 null
+     */
+    public GpsFix apply(FilterState state, GpsFix fix) {
+        if (!enabled) return fix;
+
+        state.lock.lock();
+        try {
+            GpsFix current = fix;
+            for (int i = 0; i < filters.size(); i++) {
+                current = filters.get(i).apply(current, state);
+                if (current == null) {
+                    rejectedCounters[i].increment();
+                    return null;
+                }
+            }
+            state.lastAccepted = current;
+            acceptedCounter.increment();
+            return current;
+        } finally {
+            state.lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.aidredaline.backend.domain.runningsession.ingest.filter;
+
+/**
+ * 필터 파이프라인을 통과하는 GPS 측정값 (원시 타입, 값이 없으면 NaN)
+ * @param speed    단말이 보고한 속도 (m/s)
+ * @param altitude 단말이 보고한 고도 (m)
+ * @param accuracy 단말이 보고한 수평 정확도 (m, 클수록 부정확)
+ */
+public record GpsFix(double lat, double lng, long recordedAtMillis, double speed, double altitude,
+                     double accuracy) {
+
+    public GpsFix withPosition(double lat, double lng) {
+        return new GpsFix(lat, lng, recordedAtMillis, speed, altitude, accuracy);
+    }
+}
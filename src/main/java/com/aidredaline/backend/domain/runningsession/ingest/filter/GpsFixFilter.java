@@ -0,0 +1,17 @@
+package com.aidredaline.backend.domain.runningsession.ingest.filter;
+
+/**
+ * GPS 수집 필터 (GpsFilterPipeline이 @Order 순서대로 적용)
+ * - 구현체는 상태를 갖지 않고, 세션별 상태는 FilterState에 보관
+ */
+public interface GpsFixFilter {
+
+    // 메트릭 태그 (gps.filter.rejected{filter=...})
+    String name();
+
+    /**
+     * @param state 세션별 필터 상태 (파이프라인이 lock 보유 중에 호출)
+     * @return 통과시킬 값 (보정 가능), 거부하면 null
+     */
+    GpsFix apply(GpsFix fix, FilterState state);
+}
@@ -0,0 +1,59 @@
+package com.aidredaline.backend.domain.runningsession.ingest.filter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 2D Kalman 평활 (선택, gps.filter.kalman.enabled=true 일 때만 등록)
+ * - 위/경도 각각 등속 없는 위치 모델, 측정 분산 = accuracy², 프로세스 잡음 = q²·Δt
+ * - 포인트를 거부하지 않고 좌표만 보정
+ */
+@Component
+@Order(30)
+@ConditionalOnProperty(name = "gps.filter.kalman.enabled", havingValue = "true")
+public class KalmanSmoother implements GpsFixFilter {
+
+    private static final double MIN_ACCURACY_M = 1;
+    private static final double DEFAULT_ACCURACY_M = 10;
+
+    // 러너가 측정 간격 동안 움직일 수 있는 정도 (m/s)
+    @Value("${gps.filter.kalman.process-noise-mps:3}")
+    private double processNoiseMps;
+
+    @Override
+    public String name() {
+        return "kalman";
+    }
+
+    @Override
+    public GpsFix apply(GpsFix fix, FilterState state) {
+        double accuracy = Double.isNaN(fix.accuracy())
+                ? DEFAULT_ACCURACY_M
+                : Math.max(fix.accuracy(), MIN_ACCURACY_M);
+        double measurementVariance = accuracy * accuracy;
+
+        if (!state.kalmanInitialized) {
+            state.kalmanInitialized = true;
+            state.kalmanLat = fix.lat();
+            state.kalmanLng = fix.lng();
+            state.kalmanVariance = measurementVariance;
+            state.kalmanMillis = fix.recordedAtMillis();
+            return fix;
+        }
+
+        long gapMillis = fix.recordedAtMillis() - state.kalmanMillis;
+        if (gapMillis > 0) {
+            state.kalmanVariance += gapMillis * processNoiseMps * processNoiseMps / 1000.0;
+            state.kalmanMillis = fix.recordedAtMillis();
+        }
+
+        double gain = state.kalmanVariance / (state.kalmanVariance + measurementVariance);
+        state.kalmanLat += gain * (fix.lat() - state.kalmanLat);
+        state.kalmanLng += gain * (fix.lng() - state.kalmanLng);
+        state.kalmanVariance *= (1 - gain);
+
+        return fix.withPosition(state.kalmanLat, state.kalmanLng);
+    }
+}
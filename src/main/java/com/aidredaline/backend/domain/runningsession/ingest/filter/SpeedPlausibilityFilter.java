@@ -0,0 +1,37 @@
+package com.aidredaline.backend.domain.runningsession.ingest.filter;
+
+import com.aidredaline.backend.domain.runningsession.geo.TrackMath;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 속도 타당성 필터: 직전 저장 포인트에서 사람이 달릴 수 없는 속도로 튄 포인트 거부 (GPS 점프)
+ * - 보고 속도가 아닌 두 포인트 사이 거리/시간으로 판단
+ * - 오차 반경만큼은 허용해 느린 이동 중 작은 흔들림은 거부하지 않음
+ */
+@Component
+@Order(20)
+public class SpeedPlausibilityFilter implements GpsFixFilter {
+
+    @Value("${gps.filter.max-speed-mps:12}")
+    private double maxSpeedMps;
+
+    @Override
+    public String name() {
+        return "speed";
+    }
+
+    @Override
+    public GpsFix apply(GpsFix fix, FilterState state) {
+        GpsFix last = state.lastAccepted;
+        if (last == null) return fix;
+
+        long gapMillis = fix.recordedAtMillis() - last.recordedAtMillis();
+        if (gapMillis <= 0) return null;
+
+        double meters = TrackMath.haversine(last.lat(), last.lng(), fix.lat(), fix.lng());
+        double slack = Double.isNaN(fix.accuracy()) ? 0 : fix.accuracy();
+        return meters - slack > maxSpeedMps * gapMillis / 1000.0 ? null : fix;
+    }
+}
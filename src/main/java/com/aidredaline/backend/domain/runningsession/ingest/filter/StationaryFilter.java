@@ -0,0 +1,36 @@
+package com.aidredaline.backend.domain.runningsession.ingest.filter;
+
+import com.aidredaline.backend.domain.runningsession.geo.TrackMath;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정지 구간 dead-band: 직전 저장 포인트에서 거의 움직이지 않은 포인트 거부 (신호 대기 등)
+ * - 정지 중에도 heartbeat 간격마다 한 번은 저장해 시간 흐름이 끊기지 않게 함
+ */
+@Component
+@Order(40)
+public class StationaryFilter implements GpsFixFilter {
+
+    @Value("${gps.filter.stationary-radius-m:3}")
+    private double radiusM;
+
+    @Value("${gps.filter.stationary-heartbeat-ms:15000}")
+    private long heartbeatMillis;
+
+    @Override
+    public String name() {
+        return "stationary";
+    }
+
+    @Override
+    public GpsFix apply(GpsFix fix, FilterState state) {
+        GpsFix last = state.lastAccepted;
+        if (last == null) return fix;
+        if (fix.recordedAtMillis() - last.recordedAtMillis() >= heartbeatMillis) return fix;
+
+        double meters = TrackMath.haversine(last.lat(), last.lng(), fix.lat(), fix.lng());
+        return meters < radiusM ? null : fix;
+    }
+}
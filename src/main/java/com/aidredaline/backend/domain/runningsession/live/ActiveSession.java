@@ -0,0 +1,299 @@
+package com.aidredaline.backend.domain.runningsession.live;
+
+import com.aidredaline.backend.domain.runningsession.analysis.TrackAggregator;
+import com.aidredaline.backend.domain.runningsession.entity.SessionStatus;
+import com.aidredaline.backend.domain.runningsession.geo.KahanSum;
+import com.aidredaline.backend.domain.runningsession.geo.PathCollector;
+import com.aidredaline.backend.domain.runningsession.geo.TrackMath;
+import com.aidredaline.backend.domain.runningsession.guide.GuidanceState;
+import com.aidredaline.backend.domain.runningsession.ingest.filter.FilterState;
+import com.aidredaline.backend.domain.runningsession.ingest.filter.GpsFix;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 진행 중인 러닝 세션의 메모리 상태
+ * - 상태(status)는 CAS로 전이 (SessionStatus.canTransitionTo 검증), 위치/누적값은 lock으로 보호
+ * - 완료된 뒤에는 포인트를 받지 않음 → complete()가 확정한 스냅샷 이후 누적값이 변하지 않음
+ * - 포인트가 들어올 때마다 거리/이동 시간/최고 속도를 증분 계산 → complete()는 값만 확정
+ * - 완료 경로(PathCollector)와 분석(TrackAggregator)도 같은 포인트로 증분 생성 → complete()가 포인트를 다시 읽지 않음
+ * - 변경분은 dirty 표시 후 ActiveSessionRegistry가 주기적으로 DB에 반영
+ */
+@Getter
+public class ActiveSession {
+
+    // 이 간격보다 긴 포인트 사이 시간은 이동 시간에 넣지 않음 (신호 끊김 / 재개 직후)
+    private static final long MAX_MOVING_GAP_MILLIS = 30_000;
+
+    private final Integer sessionId;
+    private final Integer userId;
+    private final Integer routeId;
+    private final Instant startTime;
+    private final boolean serverGuidance;   // 턴 안내를 서버가 판단 (RouteGuidance)
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<SessionStatus> status;
+    @Getter(AccessLevel.NONE)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // DB 행 version (pause/resume 조건부 UPDATE의 기대값, lock 보유 중에만 갱신)
+    private volatile long version;
+
+    // 마지막 위치 (lock 보유 중에만 갱신)
+    private double lastLat;
+    private double lastLng;
+    private Instant lastRecordedAt;
+    private boolean positionKnown;
+    private boolean dirty;
+
+    // 서버 재시작 / 유휴 정리 이후 DB 값으로 다시 채운 세션 (DB 값은 최대 position-flush-ms 만큼 늦음)
+    // → 누적값이 빠진 포인트가 있을 수 있으므로 완료 시 저장된 포인트로 다시 계산
+    private volatile boolean restoredFromDb;
+
+    // 마지막 활동 시각 (포인트 / 상태 전이), 유휴 세션 정리용
+    @Getter(AccessLevel.NONE)
+    private volatile long lastActivityMillis = System.currentTimeMillis();
+
+    // 누적값 (거리는 Kahan 합산)
+    @Getter(AccessLevel.NONE)
+    private final KahanSum distance = new KahanSum();
+    private double movingSeconds;
+    private double maxSpeed;
+    private long pointCount;
+
+    // 완료 경로 / 분석 (lock 보유 중에만 갱신, 완료된 뒤에는 더 이상 바뀌지 않으므로 lock 없이 읽어도 됨)
+    private final PathCollector path = new PathCollector();
+    private final TrackAggregator aggregator = new TrackAggregator();
+
+    // 수집 필터 상태 (GpsFilterPipeline이 자체 lock으로 보호)
+    private final FilterState filterState = new FilterState();
+
+    // 경로 안내 상태 (RouteGuidance가 자체 lock으로 보호)
+    private final GuidanceState guidanceState = new GuidanceState();
+
+    public ActiveSession(Integer sessionId, Integer userId, Integer routeId, Instant startTime, SessionStatus status,
+                         boolean serverGuidance) {
+        this.sessionId = sessionId;
+        this.userId = userId;
+        this.routeId = routeId;
+        this.startTime = startTime;
+        this.serverGuidance = serverGuidance;
+        this.status = new AtomicReference<>(status);
+    }
+
+    public SessionStatus getStatus() {
+        return status.get();
+    }
+
+    public boolean isActive() {
+        return status.get().isActive();
+    }
+
+    /**
+     * 상태 전이 (expected일 때만 next로 변경)
+     * @return 전이 성공 여부 (현재 상태가 expected가 아니면 false)
+     * @throws IllegalArgumentException 허용되지 않는 전이
+     */
+    public boolean transition(SessionStatus expected, SessionStatus next) {
+        if (!expected.canTransitionTo(next)) {
+            throw new IllegalArgumentException("Illegal status transition: " + expected + " -> " + next);
+        }
+        if (!status.compareAndSet(expected, next)) return false;
+        lastActivityMillis = System.currentTimeMillis();
+        return true;
+    }
+
+    /**
+     * DB 상태 전이(조건부 UPDATE)가 성공한 뒤 메모리 상태를 맞춤
+     * - 동시에 성공한 전이의 반영 순서가 뒤바뀌어도 version이 가장 큰 전이가 남음 (= DB 행)
+     * - 이미 완료 처리 중(COMPLETED)이면 상태는 그대로 둠
+     * @param version 전이 후 DB 행 version
+     */
+    public void applyTransition(SessionStatus next, long version) {
+        lock.lock();
+        try {
+            if (version <= this.version) return;
+            this.version = version;
+            if (status.get().isActive()) status.set(next);
+            lastActivityMillis = System.currentTimeMillis();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 완료 처리 전용 (IN_PROGRESS/PAUSED 어느 쪽에서든 COMPLETED로, 롤백 시 되돌림), lock 안에서 바꿔 recordFix와 순서를 맞춤
+    SessionStatus forceStatus(SessionStatus next) {
+        lock.lock();
+        try {
+            return status.getAndSet(next);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * DB에 저장된 값으로 초기화 (dirty 아님)
+     * @param version  읽은 행의 version
+     * @param restored 새로 시작한 세션이 아니라 기존 세션을 DB에서 다시 읽은 경우 true
+     */
+    void seed(TrackTotals saved, long version, boolean restored) {
+        lock.lock();
+        try {
+            this.version = version;
+            restoredFromDb = restored;
+            distance.reset(saved.distance());
+            movingSeconds = saved.movingSeconds();
+            maxSpeed = saved.maxSpeed();
+            pointCount = saved.pointCount();
+            lastRecordedAt = saved.lastPointAt();
+            if (saved.lastLat() != null && saved.lastLng() != null) {
+                lastLat = saved.lastLat();
+                lastLng = saved.lastLng();
+                positionKnown = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 포인트 반영 결과
+     * - RECORDED 일 때만 포인트를 저장 → 저장된 포인트와 증분 누적값/경로가 항상 같은 포인트로 만들어짐
+     */
+    public enum RecordResult {
+        RECORDED,
+        OUT_OF_ORDER,   // 마지막 포인트보다 과거 시간
+        INACTIVE        // 세션이 이미 완료됨
+    }
+
+    /**
+     * GPS 포인트 반영 (마지막 위치 + 누적값 + 경로/분석 증분 갱신)
+     * - 마지막 포인트보다 과거 시간의 포인트는 반영하지 않음 (OUT_OF_ORDER, 호출 측은 저장하지 않음)
+     */
+    public RecordResult recordFix(GpsFix fix) {
+        lock.lock();
+        try {
+            SessionStatus current = status.get();
+            if (!current.isActive()) return RecordResult.INACTIVE;
+            if (isOutOfOrder(fix)) return RecordResult.OUT_OF_ORDER;
+            apply(current, fix);
+            return RecordResult.RECORDED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 여러 포인트를 한 번에 반영 (일괄 업로드, 시간순 정렬된 목록)
+     * - 활성 상태/시간 순서 확인과 반영을 한 lock 안에서 → 전부 반영되거나 하나도 반영되지 않음
+     * - 첫 포인트가 마지막 포인트보다 과거면 (그 사이 단건 track이 먼저 반영됨) OUT_OF_ORDER
+     */
+    public RecordResult recordFixes(List<GpsFix> fixes) {
+        lock.lock();
+        try {
+            SessionStatus current = status.get();
+            if (!current.isActive()) return RecordResult.INACTIVE;
+            if (!fixes.isEmpty() && isOutOfOrder(fixes.get(0))) return RecordResult.OUT_OF_ORDER;
+            for (GpsFix fix : fixes) apply(current, fix);
+            return RecordResult.RECORDED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // lock 보유 중에만 호출
+    private boolean isOutOfOrder(GpsFix fix) {
+        return lastRecordedAt != null && Instant.ofEpochMilli(fix.recordedAtMillis()).isBefore(lastRecordedAt);
+    }
+
+    // lock 보유 중에만 호출 (시간 순서는 호출 측에서 확인)
+    private void apply(SessionStatus current, GpsFix fix) {
+        Instant recordedAt = Instant.ofEpochMilli(fix.recordedAtMillis());
+        if (lastRecordedAt != null) {
+            distance.add(TrackMath.haversine(lastLat, lastLng, fix.lat(), fix.lng()));
+            long gapMillis = Duration.between(lastRecordedAt, recordedAt).toMillis();
+            if (current == SessionStatus.IN_PROGRESS && gapMillis <= MAX_MOVING_GAP_MILLIS) {
+                movingSeconds += gapMillis / 1000.0;
+            }
+        }
+        if (!Double.isNaN(fix.speed())) maxSpeed = Math.max(maxSpeed, fix.speed());
+
+        path.accept(fix.lat(), fix.lng(), fix.recordedAtMillis(), fix.speed(), fix.altitude(), fix.accuracy());
+        aggregator.accept(fix.lat(), fix.lng(), fix.recordedAtMillis(), fix.speed(), fix.altitude(), fix.accuracy());
+
+        lastLat = fix.lat();
+        lastLng = fix.lng();
+        lastRecordedAt = recordedAt;
+        positionKnown = true;
+        dirty = true;
+        pointCount++;
+        lastActivityMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * 현재 누적값 스냅샷
+     */
+    public TrackTotals snapshot() {
+        lock.lock();
+        try {
+            return toTotals();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * DB 반영이 필요한 누적값을 꺼내고 dirty 해제
+     * @return 반영할 것이 없으면 null
+     */
+    TrackTotals takeDirty() {
+        lock.lock();
+        try {
+            if (!dirty) return null;
+            dirty = false;
+            return toTotals();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * cutoff 이후 활동이 없고 DB에 반영할 값도 없으면 true (레지스트리에서 제거해도 잃는 값이 없음)
+     */
+    boolean isIdleSince(long cutoffMillis) {
+        lock.lock();
+        try {
+            return !dirty && lastActivityMillis < cutoffMillis;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // DB 반영 실패 시 다시 dirty 표시
+    void markDirty() {
+        lock.lock();
+        try {
+            dirty = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private TrackTotals toTotals() {
+        return new TrackTotals(
+                distance.value(),
+                movingSeconds,
+                maxSpeed,
+                pointCount,
+                positionKnown ? lastLat : null,
+                positionKnown ? lastLng : null,
+                lastRecordedAt
+        );
+    }
+}
@@ -0,0 +1,162 @@
+package com.aidredaline.backend.domain.runningsession.live;
+
+import com.aidredaline.backend.domain.runningsession.entity.RunningSession;
+import com.aidredaline.backend.domain.runningsession.entity.SessionStatus;
+import com.aidredaline.backend.domain.runningsession.geo.GeoFactory;
+import com.aidredaline.backend.domain.runningsession.repository.RunningSessionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Point;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중인 러닝 세션 레지스트리 (sessionId → ActiveSession)
+ * - start()에서 등록, complete() 커밋 이후 제거
+ * - track/pause/resume은 세션 엔티티를 로드하지 않고 여기서 상태 확인
+ * - 서버 재시작 등으로 레지스트리에 없으면 DB에서 한 번 읽어 채움 (진행 중 / 일시정지 세션만)
+ * - 완료되지 않고 방치된 세션은 일정 시간 활동이 없으면 제거 (다시 요청이 오면 DB에서 다시 채움)
+ * - currentPosition과 누적값(거리/이동 시간/최고 속도)은 주기적으로 모아서 DB에 반영 (lazy write-back)
+ */
+@Slf4j
+@Component
+public class ActiveSessionRegistry {
+
+    private final RunningSessionRepository sessionRepo;
+    private final GeoFactory geo;
+    private final TransactionTemplate tx;
+
+    private final Map<Integer, ActiveSession> sessions = new ConcurrentHashMap<>();
+
+    // 이 시간 동안 포인트 / 상태 전이가 없으면 레지스트리에서 제거
+    @Value("${running.registry.idle-expire-minutes:30}")
+    private long idleExpireMinutes;
+
+    public ActiveSessionRegistry(RunningSessionRepository sessionRepo,
+                                 GeoFactory geo,
+                                 PlatformTransactionManager transactionManager) {
+        this.sessionRepo = sessionRepo;
+        this.geo = geo;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 새로 시작한 세션 등록
+     */
+    public ActiveSession register(RunningSession s) {
+        ActiveSession active = toActiveSession(s, false);
+        sessions.put(s.getSessionId(), active);
+        return active;
+    }
+
+    /**
+     * 활성 세션 조회 (레지스트리 미스 시 DB 조회 후 등록)
+     * @throws IllegalArgumentException 세션이 없을 때
+     * @throws IllegalStateException 세션이 활성 상태가 아닐 때
+     */
+    public ActiveSession getActive(Integer sessionId) {
+        ActiveSession active = sessions.get(sessionId);
+        if (active == null) {
+            RunningSession s = sessionRepo.findById(sessionId)
+                    .orElseThrow(() -> new IllegalArgumentException("Session not found"));
+            // 완료된 세션은 등록하지 않음 (오래된 세션 ID로 요청이 올 때마다 쌓이지 않도록)
+            if (!s.getStatus().isActive()) {
+                throw new IllegalStateException("Session not active");
+            }
+            active = sessions.computeIfAbsent(sessionId, id -> toActiveSession(s, true));
+        }
+        if (!active.isActive()) {
+            throw new IllegalStateException("Session not active");
+        }
+        return active;
+    }
+
+    /**
+     * 세션 종료: 이후 들어오는 track 요청은 거부되도록 상태를 바꿈
+     * - 레지스트리 제거는 현재 트랜잭션 커밋 이후, 롤백되면 이전 상태로 되돌림 (트랜잭션 안에서 호출할 것)
+     * @return 종료할 세션 (레지스트리에 없었으면 null)
+     */
+    public ActiveSession removeOnCommit(Integer sessionId, SessionStatus finalStatus) {
+        ActiveSession active = sessions.get(sessionId);
+        SessionStatus previous = active != null ? active.forceStatus(finalStatus) : null;
+
+        // 레지스트리에 없던 세션도 커밋 전 track 요청이 DB(아직 진행 중)에서 다시 채웠을 수 있으므로 키로 제거
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    sessions.remove(sessionId);
+                } else if (active != null) {
+                    active.forceStatus(previous);
+                }
+            }
+        });
+        return active;
+    }
+
+    // 유휴 세션 정리 (DB 반영이 끝난 세션만, 남은 값은 다음 flushPositions 이후 정리)
+    @Scheduled(fixedDelayString = "${running.registry.idle-check-ms:60000}")
+    public void evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleExpireMinutes * 60_000;
+        int before = sessions.size();
+        sessions.values().removeIf(active -> active.isIdleSince(cutoff));
+        int evicted = before - sessions.size();
+        if (evicted > 0) log.info("유휴 세션 정리: evicted={}, remaining={}", evicted, sessions.size());
+    }
+
+    // currentPosition + 누적값 일괄 반영 (한 트랜잭션)
+    @Scheduled(fixedDelayString = "${running.registry.position-flush-ms:5000}")
+    public void flushPositions() {
+        Map<ActiveSession, TrackTotals> dirty = new HashMap<>();
+        for (ActiveSession active : sessions.values()) {
+            TrackTotals totals = active.takeDirty();
+            if (totals != null) dirty.put(active, totals);
+        }
+        if (dirty.isEmpty()) return;
+
+        try {
+            Instant now = Instant.now();
+            tx.executeWithoutResult(status -> dirty.forEach((active, totals) ->
+                    sessionRepo.updateLiveTotals(
+                            active.getSessionId(),
+                            geo.point(totals.lastLat(), totals.lastLng()),
+                            BigDecimal.valueOf(totals.distance()),
+                            (int) totals.movingSeconds(),
+                            BigDecimal.valueOf(totals.maxSpeed()),
+                            (int) totals.pointCount(),
+                            totals.lastPointAt(),
+                            now)));
+        } catch (RuntimeException e) {
+            dirty.keySet().forEach(ActiveSession::markDirty);
+            log.error("세션 누적값 반영 실패: sessions={}", dirty.size(), e);
+        }
+    }
+
+    private ActiveSession toActiveSession(RunningSession s, boolean restored) {
+        ActiveSession active = new ActiveSession(
+                s.getSessionId(), s.getUserId(), s.getRouteId(), s.getStartTime(), s.getStatus(),
+                Boolean.TRUE.equals(s.getServerGuidance()));
+        Point position = s.getCurrentPosition();
+        active.seed(new TrackTotals(
+                Optional.ofNullable(s.getActualDistance()).map(BigDecimal::doubleValue).orElse(0.0),
+                Optional.ofNullable(s.getMovingTime()).orElse(0),
+                Optional.ofNullable(s.getMaxSpeed()).map(BigDecimal::doubleValue).orElse(0.0),
+                Optional.ofNullable(s.getPointCount()).orElse(0),
+                position != null ? position.getY() : null,
+                position != null ? position.getX() : null,
+                s.getLastPointAt()
+        ), Optional.ofNullable(s.getVersion()).orElse(0L), restored);
+        return active;
+    }
+}
@@ -0,0 +1,180 @@
+package com.aidredaline.backend.domain.runningsession.live;
+
+import com.aidredaline.backend.domain.runningsession.dto.LivePositionRes;
+import com.aidredaline.backend.domain.runningsession.entity.SessionStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 실시간 관전(SSE) 팬아웃
+ * ---------------------
+ * - 수집 경로(track / trackBatch / 상태 변경)가 publish → 구독자별로 최신 값만 보관
+ * - 구독자마다 전송은 한 번에 하나만 진행, 전송 중 들어온 값은 최신 값으로 덮어씀 (느린 구독자는 중간 위치 생략)
+ * - 값은 ActiveSession 메모리 상태에서 만들므로 관전자 수와 무관하게 DB 조회 없음
+ * - 세션 종료(completed)를 보내면 해당 세션 구독을 모두 닫음
+ *
+ * 메트릭:
+ * - live.subscribers       : 현재 구독자 수
+ * - live.events.sent       : 전송한 이벤트 수
+ * - live.events.coalesced  : 전송 전에 덮어쓴(생략된) 이벤트 수
+ */
+@Slf4j
+@Component
+public class LiveBroadcaster {
+
+    private final Executor executor;
+    private final Map<Integer, List<Subscriber>> topics = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private final Counter sentCounter;
+    private final Counter coalescedCounter;
+
+    @Value("${running.live.sse-timeout-ms:3600000}")
+    private long timeoutMillis;
+
+    public LiveBroadcaster(@Qualifier("applicationTaskExecutor") Executor executor, MeterRegistry registry) {
+        this.executor = executor;
+
+        Gauge.builder("live.subscribers", subscriberCount, AtomicInteger::get)
+                .description("실시간 관전 SSE 구독자 수")
+                .register(registry);
+        this.sentCounter = Counter.builder("live.events.sent")
+                .description("실시간 관전 이벤트 전송 수")
+                .register(registry);
+        this.coalescedCounter = Counter.builder("live.events.coalesced")
+                .description("전송 전에 최신 값으로 덮어쓴 이벤트 수")
+                .register(registry);
+    }
+
+    /**
+     * 구독 등록 (초기 값이 있으면 바로 전송)
+     */
+    public SseEmitter subscribe(Integer sessionId, LivePositionRes initial) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(sessionId, emitter);
+
+        topics.computeIfAbsent(sessionId, id -> new CopyOnWriteArrayList<>()).add(subscriber);
+        subscriberCount.incrementAndGet();
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        if (initial != null) subscriber.offer(initial);
+        return emitter;
+    }
+
+    public boolean hasSubscribers(Integer sessionId) {
+        List<Subscriber> subscribers = topics.get(sessionId);
+        return subscribers != null && !subscribers.isEmpty();
+    }
+
+    /**
+     * 최신 위치 전파 (구독자가 없으면 아무것도 하지 않음)
+     */
+    public void publish(LivePositionRes position) {
+        List<Subscriber> subscribers = topics.get(position.sessionId());
+        if (subscribers == null) return;
+        for (Subscriber subscriber : subscribers) subscriber.offer(position);
+    }
+
+    // 프록시 유휴 연결 끊김 방지 + 끊어진 구독자 정리
+    @Scheduled(fixedDelayString = "${running.live.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (List<Subscriber> subscribers : topics.values()) {
+            for (Subscriber subscriber : subscribers) {
+                try {
+                    subscriber.emitter.send(SseEmitter.event().comment("ping"));
+                } catch (IOException | IllegalStateException e) {
+                    subscriber.emitter.completeWithError(e);
+                }
+            }
+        }
+    }
+
+    // ActiveSession 상태로 이벤트 생성 (DB 조회 없음)
+    public static LivePositionRes toPosition(ActiveSession active) {
+        TrackTotals totals = active.snapshot();
+        return new LivePositionRes(
+                active.getSessionId(),
+                active.getStatus(),
+                totals.lastLat(),
+                totals.lastLng(),
+                BigDecimal.valueOf(totals.distance()).setScale(2, RoundingMode.HALF_UP),
+                (long) totals.movingSeconds(),
+                totals.lastPointAt()
+        );
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        topics.computeIfPresent(subscriber.sessionId, (id, list) -> {
+            if (list.remove(subscriber)) subscriberCount.decrementAndGet();
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    /**
+     * 구독자 1명: 최신 값 1개 + 전송 중 여부
+     */
+    private class Subscriber {
+        private final Integer sessionId;
+        private final SseEmitter emitter;
+        private final AtomicReference<LivePositionRes> latest = new AtomicReference<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(Integer sessionId, SseEmitter emitter) {
+            this.sessionId = sessionId;
+            this.emitter = emitter;
+        }
+
+        void offer(LivePositionRes position) {
+            if (latest.getAndSet(position) != null) coalescedCounter.increment();
+            if (draining.compareAndSet(false, true)) executor.execute(this::drain);
+        }
+
+        private void drain() {
+            do {
+                LivePositionRes position;
+                while ((position = latest.getAndSet(null)) != null) {
+                    if (!send(position)) return;
+                }
+                draining.set(false);
+                // set(false) 직전에 들어온 값이 있으면 다시 가져감
+            } while (latest.get() != null && draining.compareAndSet(false, true));
+        }
+
+        private boolean send(LivePositionRes position) {
+            try {
+                emitter.send(SseEmitter.event().name("position").data(position));
+                sentCounter.increment();
+                if (position.status() == SessionStatus.COMPLETED) {
+                    emitter.complete();
+                    return false;
+                }
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+    }
+}
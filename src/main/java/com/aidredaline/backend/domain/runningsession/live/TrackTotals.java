@@ -0,0 +1,25 @@
+package com.aidredaline.backend.domain.runningsession.live;
+
+import java.time.Instant;
+
+/**
+ * 세션 누적값 스냅샷
+ * - 트래킹 중 증분 계산한 값 또는 저장된 포인트 전체를 다시 계산한 값
+ *
+ * @param distance      누적 거리 (미터)
+ * @param movingSeconds 포인트 간 이동 시간 합 (일시정지 구간 제외)
+ * @param maxSpeed      최고 속도 (m/s)
+ * @param pointCount    반영된 포인트 수
+ * @param lastLat       마지막 포인트 위도 (없으면 null)
+ * @param lastLng       마지막 포인트 경도 (없으면 null)
+ * @param lastPointAt   마지막 포인트 기록 시간 (없으면 null)
+ */
+public record TrackTotals(
+        double distance,
+        double movingSeconds,
+        double maxSpeed,
+        long pointCount,
+        Double lastLat,
+        Double lastLng,
+        Instant lastPointAt
+) {}
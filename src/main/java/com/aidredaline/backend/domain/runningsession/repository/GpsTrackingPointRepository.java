@@ -4,6 +4,7 @@ import com.aidredaline.backend.domain.runningsession.entity.GpsTrackingPoint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
 
-public interface GpsTrackingPointRepository extends JpaRepository<GpsTrackingPoint, Integer> {
+public interface GpsTrackingPointRepository extends JpaRepository<GpsTrackingPoint, Integer>,
+        GpsTrackingPointRepositoryCustom {
     List<GpsTrackingPoint> findBySessionIdOrderByRecordedAtAsc(Integer sessionId);
 }
@@ -0,0 +1,75 @@
+package com.aidredaline.backend.domain.runningsession.repository;
+
+import com.aidredaline.backend.domain.runningsession.entity.GpsTrackingPoint;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * GpsTrackingPointRepository 확장 (JDBC 직접 사용)
+ * - IDENTITY 전략이라 Hibernate가 INSERT를 묶지 못하므로 JDBC 배치 / COPY로 저장
+ * - 긴 세션 조회 시 엔티티 목록 대신 커서로 한 행씩 읽어 콜백에 전달 (힙 사용량 일정)
+ */
+public interface GpsTrackingPointRepositoryCustom {
+
+    /**
+     * 세션 기간 밖으로 허용하는 단말 시계 오차
+     * - 수집 시 [시작 - 오차, 현재 + 오차]를 벗어난 포인트는 거부하므로
+     *   스트리밍 조회는 [start_time - 오차, (end_time 또는 현재) + 오차] 범위만 읽으면 됨
+     */
+    Duration MAX_CLOCK_SKEW = Duration.ofMinutes(10);
+
+    /**
+     * GPS 포인트 일괄 저장 (multi-row INSERT)
+     * @param points 저장할 포인트 목록 (pointId는 채워지지 않음)
+     */
+    void insertBatch(List<GpsTrackingPoint> points);
+
+    /**
+     * GPS 포인트 대량 저장 (PostgreSQL COPY, 텍스트 형식)
+     * - INSERT 문 파싱/바인딩 없이 행 데이터만 스트림으로 전송 → 수천 행 이상에서 insertBatch보다 빠름
+     * - 트랜잭션 안에서 호출하면 그 트랜잭션에 포함됨
+     * @return 저장된 행 수
+     */
+    long copyInsert(List<GpsTrackingPoint> points);
+
+    /**
+     * 세션의 GPS 포인트를 기록 시간 순으로 스트리밍 조회
+     * - forward-only 커서 + 고정 fetch size, 엔티티/리스트를 만들지 않음
+     * - 세션 기간(MAX_CLOCK_SKEW 포함)으로 recorded_at 범위를 걸어 해당 월 파티션만 읽음
+     * - 행이 없으면 보관(gps_track_archives)된 세션인지 확인해 압축을 풀어 전달
+     * - ⚠️ PostgreSQL 커서는 autocommit이 꺼져 있어야 하므로 트랜잭션 안에서 호출할 것
+     */
+    void streamBySessionId(Integer sessionId, PointCallback callback);
+
+    /**
+     * 보관 대상 세션 ID (완료 후 endedBefore가 지났고 아직 보관되지 않은 세션, 오래된 순)
+     */
+    List<Integer> findArchivableSessionIds(Instant endedBefore, int limit);
+
+    /**
+     * 세션의 포인트를 압축 blob 한 행으로 옮기고 원본 행 삭제
+     * - 보관/삭제 모두 세션 기간 ± MAX_CLOCK_SKEW 범위만 (범위 밖 행은 남기고 경고 로그)
+     * - ⚠️ 트랜잭션 안에서 호출할 것 (blob 저장과 삭제가 함께 커밋되어야 함)
+     * @return 보관한 포인트 수
+     */
+    long archiveSession(Integer sessionId);
+
+    /**
+     * 포인트 한 행 콜백 (값이 없는 숫자 컬럼은 NaN)
+     */
+    @FunctionalInterface
+    interface PointCallback {
+        void accept(double lat, double lng, long recordedAtMillis,
+                    double speed, double altitude, double accuracy);
+
+        // 한 번의 조회로 여러 집계기에 전달
+        default PointCallback andThen(PointCallback next) {
+            return (lat, lng, recordedAtMillis, speed, altitude, accuracy) -> {
+                accept(lat, lng, recordedAtMillis, speed, altitude, accuracy);
+                next.accept(lat, lng, recordedAtMillis, speed, altitude, accuracy);
+            };
+        }
+    }
+}
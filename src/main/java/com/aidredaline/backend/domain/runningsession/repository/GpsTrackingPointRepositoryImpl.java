@@ -0,0 +1,249 @@
+package com.aidredaline.backend.domain.runningsession.repository;
+
+import com.aidredaline.backend.domain.runningsession.entity.GpsTrackingPoint;
+import com.aidredaline.backend.domain.runningsession.archive.TrackArchiveCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * GpsTrackingPointRepositoryCustom 구현체
+ * - reWriteBatchedInserts=true 설정 시 드라이버가 배치를 multi-row INSERT 한 문장으로 재작성
+ * - 대량 저장은 COPY FROM STDIN으로 COPY_CHUNK_BYTES씩 나눠 전송
+ * - 스트리밍 조회는 FETCH_SIZE 행씩 서버 커서에서 가져옴
+ * - 보관된 세션은 gps_track_archives의 압축 blob을 풀어 같은 콜백으로 전달
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class GpsTrackingPointRepositoryImpl implements GpsTrackingPointRepositoryCustom {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int FETCH_SIZE = 1000;
+    private static final int COPY_CHUNK_BYTES = 64 * 1024;
+
+    // ⚠️ ST_MakePoint는 (x=lng, y=lat) 순서
+    private static final String INSERT_SQL = """
+            INSERT INTO gps_tracking_points (session_id, location, recorded_at, accuracy, speed, altitude)
+            VALUES (?, ST_SetSRID(ST_MakePoint(?, ?), 4326), ?, ?, ?, ?)
+            """;
+
+    // location은 EWKT 텍스트로 전달 (geometry 입력 함수가 그대로 파싱)
+    private static final String COPY_SQL = """
+            COPY gps_tracking_points (session_id, location, recorded_at, accuracy, speed, altitude)
+            FROM STDIN
+            """;
+
+    // recorded_at 범위를 같이 주어야 월별 파티션 중 세션 기간에 해당하는 것만 읽음 (partition pruning)
+    private static final String STREAM_SQL = """
+            SELECT ST_Y(location), ST_X(location), recorded_at, speed, altitude, accuracy
+            FROM gps_tracking_points
+            WHERE session_id = ?
+              AND recorded_at BETWEEN ? AND ?
+            ORDER BY recorded_at
+            """;
+
+    private static final String SESSION_WINDOW_SQL = """
+            SELECT start_time, end_time FROM running_sessions WHERE session_id = ?
+            """;
+
+    private static final String ARCHIVE_SELECT_SQL = """
+            SELECT data FROM gps_track_archives WHERE session_id = ?
+            """;
+
+    private static final String ARCHIVABLE_SQL = """
+            SELECT s.session_id
+            FROM running_sessions s
+            WHERE s.status = 'completed'
+              AND s.end_time < ?
+              AND NOT EXISTS (SELECT 1 FROM gps_track_archives a WHERE a.session_id = s.session_id)
+            ORDER BY s.end_time
+            LIMIT ?
+            """;
+
+    private static final String ARCHIVE_INSERT_SQL = """
+            INSERT INTO gps_track_archives
+                (session_id, codec, point_count, first_recorded_at, last_recorded_at, data, archived_at)
+            VALUES (?, ?, ?, ?, ?, ?, now())
+            """;
+
+    // 보관한 범위(세션 기간 ± 시계 오차)만 삭제 → 범위 밖 행은 보관되지 않았으므로 남겨 둠
+    private static final String DELETE_SQL = """
+            DELETE FROM gps_tracking_points
+            WHERE session_id = ?
+              AND recorded_at BETWEEN ? AND ?
+            """;
+
+    private static final String REMAINING_SQL = """
+            SELECT count(*) FROM gps_tracking_points WHERE session_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertBatch(List<GpsTrackingPoint> points) {
+        if (points.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, points, BATCH_SIZE, (ps, p) -> {
+            ps.setInt(1, p.getSessionId());
+            ps.setDouble(2, p.getLocation().getX());  // lng
+            ps.setDouble(3, p.getLocation().getY());  // lat
+            ps.setTimestamp(4, Timestamp.from(p.getRecordedAt()));
+            setDecimal(ps, 5, p.getAccuracy());
+            setDecimal(ps, 6, p.getSpeed());
+            setDecimal(ps, 7, p.getAltitude());
+        });
+    }
+
+    @Override
+    public long copyInsert(List<GpsTrackingPoint> points) {
+        if (points.isEmpty()) return 0;
+
+        Long rows = jdbcTemplate.execute((ConnectionCallback<Long>) con -> {
+            CopyIn copy = con.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+            try {
+                StringBuilder sb = new StringBuilder(COPY_CHUNK_BYTES + 256);
+                for (GpsTrackingPoint p : points) {
+                    appendCopyRow(sb, p);
+                    if (sb.length() >= COPY_CHUNK_BYTES) writeChunk(copy, sb);
+                }
+                if (!sb.isEmpty()) writeChunk(copy, sb);
+                return copy.endCopy();
+            } finally {
+                if (copy.isActive()) copy.cancelCopy();
+            }
+        });
+        return rows != null ? rows : 0;
+    }
+
+    // 텍스트 COPY 한 행: 탭 구분, NULL은 \N
+    private static void appendCopyRow(StringBuilder sb, GpsTrackingPoint p) {
+        sb.append(p.getSessionId()).append('\t')
+                .append("SRID=4326;POINT(")
+                .append(p.getLocation().getX()).append(' ')   // lng
+                .append(p.getLocation().getY()).append(")\t") // lat
+                .append(p.getRecordedAt()).append('\t');
+        appendDecimal(sb, p.getAccuracy()).append('\t');
+        appendDecimal(sb, p.getSpeed()).append('\t');
+        appendDecimal(sb, p.getAltitude()).append('\n');
+    }
+
+    private static StringBuilder appendDecimal(StringBuilder sb, BigDecimal value) {
+        return value == null ? sb.append("\\N") : sb.append(value.toPlainString());
+    }
+
+    private static void writeChunk(CopyIn copy, StringBuilder sb) throws SQLException {
+        byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+        copy.writeToCopy(bytes, 0, bytes.length);
+        sb.setLength(0);
+    }
+
+    @Override
+    public void streamBySessionId(Integer sessionId, PointCallback callback) {
+        long[] rows = {0};
+        streamRows(sessionId, (lat, lng, recordedAtMillis, speed, altitude, accuracy) -> {
+            rows[0]++;
+            callback.accept(lat, lng, recordedAtMillis, speed, altitude, accuracy);
+        });
+        if (rows[0] > 0) return;
+
+        // 원본 행이 없으면 보관된 세션일 수 있음
+        List<byte[]> archived = jdbcTemplate.query(ARCHIVE_SELECT_SQL, (rs, i) -> rs.getBytes(1), sessionId);
+        if (!archived.isEmpty()) TrackArchiveCodec.decode(archived.get(0), callback);
+    }
+
+    @Override
+    public List<Integer> findArchivableSessionIds(Instant endedBefore, int limit) {
+        return jdbcTemplate.queryForList(ARCHIVABLE_SQL, Integer.class, Timestamp.from(endedBefore), limit);
+    }
+
+    @Override
+    public long archiveSession(Integer sessionId) {
+        Timestamp[] window = sessionWindow(sessionId);
+        if (window == null) return 0;
+
+        TrackArchiveCodec.Writer writer = TrackArchiveCodec.writer();
+        long[] range = {Long.MAX_VALUE, Long.MIN_VALUE};
+        streamRows(sessionId, window, writer.andThen((lat, lng, recordedAtMillis, speed, altitude, accuracy) -> {
+            range[0] = Math.min(range[0], recordedAtMillis);
+            range[1] = Math.max(range[1], recordedAtMillis);
+        }));
+
+        long count = writer.count();
+        jdbcTemplate.update(ARCHIVE_INSERT_SQL,
+                sessionId,
+                TrackArchiveCodec.CODEC,
+                count,
+                count > 0 ? new Timestamp(range[0]) : null,
+                count > 0 ? new Timestamp(range[1]) : null,
+                writer.toByteArray());
+        jdbcTemplate.update(DELETE_SQL, sessionId, window[0], window[1]);
+
+        // 범위 밖 행(시계가 크게 틀린 단말 등)은 보관되지 않았으므로 삭제하지 않고 정리 여부를 따로 판단
+        Long remaining = jdbcTemplate.queryForObject(REMAINING_SQL, Long.class, sessionId);
+        if (remaining != null && remaining > 0) {
+            log.warn("세션 기간 밖 GPS 포인트는 보관/삭제하지 않음: sessionId={}, rows={}", sessionId, remaining);
+        }
+        return count;
+    }
+
+    private void streamRows(Integer sessionId, PointCallback callback) {
+        Timestamp[] window = sessionWindow(sessionId);
+        if (window != null) streamRows(sessionId, window, callback);
+    }
+
+    // 세션 기간 ± 허용 시계 오차 (진행 중이면 현재 시각까지), 세션이 없으면 null
+    private Timestamp[] sessionWindow(Integer sessionId) {
+        List<Timestamp[]> windows = jdbcTemplate.query(SESSION_WINDOW_SQL, (rs, i) -> {
+            Instant start = rs.getTimestamp(1).toInstant();
+            Timestamp end = rs.getTimestamp(2);
+            return new Timestamp[]{
+                    Timestamp.from(start.minus(MAX_CLOCK_SKEW)),
+                    Timestamp.from((end != null ? end.toInstant() : Instant.now()).plus(MAX_CLOCK_SKEW))
+            };
+        }, sessionId);
+        return windows.isEmpty() ? null : windows.get(0);
+    }
+
+    private void streamRows(Integer sessionId, Timestamp[] window, PointCallback callback) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    STREAM_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setInt(1, sessionId);
+            ps.setTimestamp(2, window[0]);
+            ps.setTimestamp(3, window[1]);
+            return ps;
+        }, (RowCallbackHandler) rs -> callback.accept(
+                rs.getDouble(1),
+                rs.getDouble(2),
+                rs.getTimestamp(3).getTime(),
+                getDouble(rs, 4),
+                getDouble(rs, 5),
+                getDouble(rs, 6)
+        ));
+    }
+
+    private static double getDouble(ResultSet rs, int index) throws SQLException {
+        double value = rs.getDouble(index);
+        return rs.wasNull() ? Double.NaN : value;
+    }
+
+    private static void setDecimal(PreparedStatement ps, int index, BigDecimal value) throws SQLException {
+        if (value == null) ps.setNull(index, Types.NUMERIC);
+        else ps.setBigDecimal(index, value);
+    }
+}
@@ -1,25 +1,113 @@
 package com.aidredaline.backend.domain.runningsession.repository;
 
+import com.aidredaline.backend.domain.runningsession.dto.SessionDetailRes;
+import com.aidredaline.backend.domain.runningsession.dto.SessionItemRes;
 import com.aidredaline.backend.domain.runningsession.entity.RunningSession;
+import com.aidredaline.backend.domain.runningsession.entity.SessionStatus;
+import org.locationtech.jts.geom.Point;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 public interface RunningSessionRepository extends JpaRepository<RunningSession, Integer> {
 
-    Page<RunningSession> findByUserIdAndStatusOrderByStartTimeDesc(Integer userId, String status, Pageable pageable);
+    Page<RunningSession> findByUserIdAndStatusOrderByStartTimeDesc(Integer userId, SessionStatus status, Pageable pageable);
 
+    // 상태 전이 (현재 상태가 expected이고 version이 expectedVersion일 때만, 동시 요청 중 하나만 성공)
+    // - 상태만 보면 그 사이 다른 전이가 두 번 일어나 같은 상태로 돌아온 경우(ABA)를 구분하지 못함
+    // version도 증가 → 그 전에 엔티티를 읽은 complete()/recompute()의 저장은 낙관적 잠금 실패
+    // @return 변경된 행 수 (0이면 이미 다른 상태 / 다른 요청이 먼저 바꿈)
+    @Modifying
     @Query("""
-       SELECT COUNT(s),
-              COALESCE(SUM(s.actualDistance), 0),
-              COALESCE(AVG(s.averagePace), 0)
+       UPDATE RunningSession s
+       SET s.status = :next,
+           s.version = s.version + 1,
+           s.updatedAt = :updatedAt
+       WHERE s.sessionId = :sessionId
+         AND s.status = :expected
+         AND s.version = :expectedVersion
+       """)
+    int transitionStatus(Integer sessionId, SessionStatus expected, SessionStatus next, Long expectedVersion,
+                         Instant updatedAt);
+
+    // ---- 목록/상세 조회용 projection: 필요한 컬럼만 읽어 DTO로 바로 생성 ----
+    // actualPath / currentPosition(geometry)는 읽지도 변환하지도 않음
+
+    // 페이지 번호 기반 목록
+    @Query(value = """
+       SELECT new com.aidredaline.backend.domain.runningsession.dto.SessionItemRes(
+              s.sessionId, s.startTime, s.endTime, s.actualDistance, s.averagePace, s.calories)
        FROM RunningSession s
        WHERE s.userId = :userId
-         AND s.status = 'completed'
+         AND s.status = :status
+       ORDER BY s.startTime DESC
+       """,
+           countQuery = """
+       SELECT COUNT(s) FROM RunningSession s
+       WHERE s.userId = :userId
+         AND s.status = :status
+       """)
+    Page<SessionItemRes> findItems(Integer userId, SessionStatus status, Pageable pageable);
+
+    // 커서 기반 목록 첫 페이지 (COUNT 없음)
+    @Query("""
+       SELECT new com.aidredaline.backend.domain.runningsession.dto.SessionItemRes(
+              s.sessionId, s.startTime, s.endTime, s.actualDistance, s.averagePace, s.calories)
+       FROM RunningSession s
+       WHERE s.userId = :userId
+         AND s.status = :status
+       ORDER BY s.startTime DESC, s.sessionId DESC
+       """)
+    List<SessionItemRes> findFirstItems(Integer userId, SessionStatus status, Limit limit);
+
+    // 커서 다음 페이지: (startTime, sessionId) 보다 뒤 (OFFSET 없음)
+    // startTime <= :startTime 조건이 인덱스 범위 조건이 되어 커서 위치부터 바로 이어 읽음
+    @Query("""
+       SELECT new com.aidredaline.backend.domain.runningsession.dto.SessionItemRes(
+              s.sessionId, s.startTime, s.endTime, s.actualDistance, s.averagePace, s.calories)
+       FROM RunningSession s
+       WHERE s.userId = :userId
+         AND s.status = :status
+         AND s.startTime <= :startTime
+         AND (s.startTime < :startTime OR s.sessionId < :sessionId)
+       ORDER BY s.startTime DESC, s.sessionId DESC
+       """)
+    List<SessionItemRes> findItemsAfter(Integer userId, SessionStatus status, Instant startTime, Integer sessionId,
+                                        Limit limit);
+
+    // 상세: 경로는 PostGIS에서 바로 Encoded Polyline 문자열로 (JTS geometry 변환 없음)
+    @Query("""
+       SELECT new com.aidredaline.backend.domain.runningsession.dto.SessionDetailRes(
+              s.sessionId, s.startTime, s.endTime, s.actualDistance, s.averagePace, s.calories, s.status,
+              cast(function('ST_AsEncodedPolyline', s.actualPath, 5) as String))
+       FROM RunningSession s
+       WHERE s.sessionId = :sessionId
+       """)
+    Optional<SessionDetailRes> findDetail(Integer sessionId);
+
+    // 현재 위치 + 증분 누적값 갱신 (엔티티 로드 없이, ActiveSessionRegistry write-back용)
+    @Modifying
+    @Query("""
+       UPDATE RunningSession s
+       SET s.currentPosition = :position,
+           s.actualDistance = :distance,
+           s.movingTime = :movingTime,
+           s.maxSpeed = :maxSpeed,
+           s.pointCount = :pointCount,
+           s.lastPointAt = :lastPointAt,
+           s.updatedAt = :updatedAt
+       WHERE s.sessionId = :sessionId
+         AND s.status <> com.aidredaline.backend.domain.runningsession.entity.SessionStatus.COMPLETED
        """)
-    List<Object[]> getStatisticsSummary(Integer userId);
+    int updateLiveTotals(Integer sessionId, Point position, BigDecimal distance, Integer movingTime,
+                         BigDecimal maxSpeed, Integer pointCount, Instant lastPointAt, Instant updatedAt);
 
 }
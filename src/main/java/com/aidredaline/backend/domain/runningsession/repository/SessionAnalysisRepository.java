@@ -0,0 +1,7 @@
+package com.aidredaline.backend.domain.runningsession.repository;
+
+import com.aidredaline.backend.domain.runningsession.entity.SessionAnalysis;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SessionAnalysisRepository extends JpaRepository<SessionAnalysis, Integer> {
+}
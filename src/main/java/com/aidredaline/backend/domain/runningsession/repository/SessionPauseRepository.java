@@ -0,0 +1,39 @@
+package com.aidredaline.backend.domain.runningsession.repository;
+
+import com.aidredaline.backend.domain.runningsession.entity.SessionPause;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+
+public interface SessionPauseRepository extends JpaRepository<SessionPause, Long> {
+
+    // 일시정지 구간 시작 (이미 열린 구간이 있으면 부분 유니크 인덱스 위반)
+    @Modifying
+    @Query(nativeQuery = true, value = """
+       INSERT INTO session_pauses (session_id, paused_at)
+       VALUES (:sessionId, :pausedAt)
+       """)
+    int open(Integer sessionId, Instant pausedAt);
+
+    // 열린 구간을 닫고 그 길이(초, 내림)를 totalPausedDuration에 더함 - 한 문장으로 처리
+    // 영속성 컨텍스트의 RunningSession은 값이 달라지므로 비움
+    // @return 닫은 구간 수 (열린 구간이 없으면 0)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(nativeQuery = true, value = """
+       WITH closed AS (
+           UPDATE session_pauses
+           SET resumed_at = :resumedAt
+           WHERE session_id = :sessionId
+             AND resumed_at IS NULL
+           RETURNING paused_at
+       )
+       UPDATE running_sessions s
+       SET total_paused_duration = COALESCE(s.total_paused_duration, 0)
+               + CAST(FLOOR(EXTRACT(EPOCH FROM (CAST(:resumedAt AS TIMESTAMPTZ) - c.paused_at))) AS INTEGER)
+       FROM closed c
+       WHERE s.session_id = :sessionId
+       """)
+    int close(Integer sessionId, Instant resumedAt);
+}
@@ -0,0 +1,68 @@
+package com.aidredaline.backend.domain.runningsession.repository;
+
+import com.aidredaline.backend.domain.runningsession.entity.UserRunningStatsBucket;
+import com.aidredaline.backend.domain.runningsession.stats.StatsGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface UserRunningStatsBucketRepository
+        extends JpaRepository<UserRunningStatsBucket, UserRunningStatsBucket.Key> {
+
+    // 기간 조회 (PK 인덱스 범위 스캔 한 번)
+    @Query("""
+       SELECT b FROM UserRunningStatsBucket b
+       WHERE b.userId = :userId
+         AND b.granularity = :granularity
+         AND b.bucketStart BETWEEN :from AND :to
+       ORDER BY b.bucketStart
+       """)
+    List<UserRunningStatsBucket> findRange(Integer userId, StatsGranularity granularity, LocalDate from, LocalDate to);
+
+    // 완료 세션 1건을 주/월/년 버킷에 반영 (한 문장, 행이 없으면 생성)
+    @Modifying
+    @Query(nativeQuery = true, value = """
+       INSERT INTO user_running_stats_buckets AS b
+              (user_id, granularity, bucket_start, total_runs, total_distance, moving_time, updated_at)
+       VALUES (:userId, 'WEEK',  :week,  1, COALESCE(CAST(:distance AS NUMERIC), 0), :movingTime, now()),
+              (:userId, 'MONTH', :month, 1, COALESCE(CAST(:distance AS NUMERIC), 0), :movingTime, now()),
+              (:userId, 'YEAR',  :year,  1, COALESCE(CAST(:distance AS NUMERIC), 0), :movingTime, now())
+       ON CONFLICT (user_id, granularity, bucket_start) DO UPDATE
+       SET total_runs     = b.total_runs + 1,
+           total_distance = b.total_distance + EXCLUDED.total_distance,
+           moving_time    = b.moving_time + EXCLUDED.moving_time,
+           updated_at     = EXCLUDED.updated_at
+       """)
+    int addCompletedRun(Integer userId, LocalDate week, LocalDate month, LocalDate year,
+                        BigDecimal distance, long movingTime);
+
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM user_running_stats_buckets WHERE user_id = :userId")
+    int deleteUser(Integer userId);
+
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM user_running_stats_buckets")
+    int deleteAllRows();
+
+    // running_sessions에서 다시 집계 (userId가 null이면 전체 사용자, 먼저 해당 행을 지워야 함)
+    @Modifying
+    @Query(nativeQuery = true, value = """
+       INSERT INTO user_running_stats_buckets
+              (user_id, granularity, bucket_start, total_runs, total_distance, moving_time, updated_at)
+       SELECT s.user_id, g.granularity,
+              CAST(date_trunc(lower(g.granularity), s.start_time AT TIME ZONE 'Asia/Seoul') AS DATE),
+              COUNT(*), COALESCE(SUM(s.actual_distance), 0), COALESCE(SUM(s.moving_time), 0), now()
+       FROM running_sessions s
+       CROSS JOIN (VALUES ('WEEK'), ('MONTH'), ('YEAR')) AS g (granularity)
+       WHERE s.status = 'completed'
+         AND s.user_id IS NOT NULL
+         AND s.start_time IS NOT NULL
+         AND (CAST(:userId AS INTEGER) IS NULL OR s.user_id = :userId)
+       GROUP BY 1, 2, 3
+       """)
+    int rebuild(Integer userId);
+}
@@ -0,0 +1,84 @@
+package com.aidredaline.backend.domain.runningsession.repository;
+
+import com.aidredaline.backend.domain.runningsession.entity.UserRunningStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.math.BigDecimal;
+
+public interface UserRunningStatsRepository extends JpaRepository<UserRunningStats, Integer> {
+
+    // 완료 세션 1건 반영 (행이 없으면 생성, 동시 완료에도 행 잠금으로 누락 없음)
+    // best_pace: LEAST는 NULL을 무시하므로 페이스가 없는 세션은 기존 값 유지
+    @Modifying
+    @Query(nativeQuery = true, value = """
+       INSERT INTO user_running_stats AS u
+              (user_id, total_runs, total_distance, pace_sum, pace_count, best_pace, updated_at)
+       VALUES (:userId, 1,
+               COALESCE(CAST(:distance AS NUMERIC), 0),
+               COALESCE(CAST(:pace AS NUMERIC), 0),
+               CASE WHEN CAST(:pace AS NUMERIC) IS NULL THEN 0 ELSE 1 END,
+               CASE WHEN CAST(:pace AS NUMERIC) > 0 THEN CAST(:pace AS NUMERIC) END,
+               now())
+       ON CONFLICT (user_id) DO UPDATE
+       SET total_runs     = u.total_runs + 1,
+           total_distance = u.total_distance + EXCLUDED.total_distance,
+           pace_sum       = u.pace_sum + EXCLUDED.pace_sum,
+           pace_count     = u.pace_count + EXCLUDED.pace_count,
+           best_pace      = LEAST(u.best_pace, EXCLUDED.best_pace),
+           updated_at     = EXCLUDED.updated_at
+       """)
+    int addCompletedRun(Integer userId, BigDecimal distance, BigDecimal pace);
+
+    // 한 사용자 다시 집계 (완료 세션 재계산 후)
+    @Modifying
+    @Query(nativeQuery = true, value = """
+       INSERT INTO user_running_stats
+              (user_id, total_runs, total_distance, pace_sum, pace_count, best_pace, updated_at)
+       SELECT s.user_id, COUNT(*), COALESCE(SUM(s.actual_distance), 0), COALESCE(SUM(s.average_pace), 0),
+              COUNT(s.average_pace), MIN(s.average_pace) FILTER (WHERE s.average_pace > 0), now()
+       FROM running_sessions s
+       WHERE s.user_id = :userId
+         AND s.status = 'completed'
+       GROUP BY s.user_id
+       ON CONFLICT (user_id) DO UPDATE
+       SET total_runs     = EXCLUDED.total_runs,
+           total_distance = EXCLUDED.total_distance,
+           pace_sum       = EXCLUDED.pace_sum,
+           pace_count     = EXCLUDED.pace_count,
+           best_pace      = EXCLUDED.best_pace,
+           updated_at     = EXCLUDED.updated_at
+       """)
+    int rebuildUser(Integer userId);
+
+    // 전체 사용자 다시 집계 (초기 적재 / 누락·오차 보정)
+    @Modifying
+    @Query(nativeQuery = true, value = """
+       INSERT INTO user_running_stats
+              (user_id, total_runs, total_distance, pace_sum, pace_count, best_pace, updated_at)
+       SELECT s.user_id, COUNT(*), COALESCE(SUM(s.actual_distance), 0), COALESCE(SUM(s.average_pace), 0),
+              COUNT(s.average_pace), MIN(s.average_pace) FILTER (WHERE s.average_pace > 0), now()
+       FROM running_sessions s
+       WHERE s.user_id IS NOT NULL
+         AND s.status = 'completed'
+       GROUP BY s.user_id
+       ON CONFLICT (user_id) DO UPDATE
+       SET total_runs     = EXCLUDED.total_runs,
+           total_distance = EXCLUDED.total_distance,
+           pace_sum       = EXCLUDED.pace_sum,
+           pace_count     = EXCLUDED.pace_count,
+           best_pace      = EXCLUDED.best_pace,
+           updated_at     = EXCLUDED.updated_at
+       """)
+    int rebuildAll();
+
+    // 완료 세션이 하나도 남지 않은 사용자 행 삭제
+    @Modifying
+    @Query(nativeQuery = true, value = """
+       DELETE FROM user_running_stats u
+       WHERE NOT EXISTS (SELECT 1 FROM running_sessions s
+                         WHERE s.user_id = u.user_id AND s.status = 'completed')
+       """)
+    int deleteOrphans();
+}
@@ -4,30 +4,72 @@ import com.aidredaline.backend.domain.route.entity.GeneratedRoute;
 import com.aidredaline.backend.domain.guidance.dto.GuidancePointDto;
 import com.aidredaline.backend.domain.guidance.service.VoiceGuidanceService;
 import com.aidredaline.backend.domain.route.repository.GeneratedRouteRepository;
+import com.aidredaline.backend.domain.runningsession.analysis.TrackAggregator;
+import com.aidredaline.backend.domain.runningsession.cache.AnalysisCache;
+import com.aidredaline.backend.domain.runningsession.cache.SimplifiedPointsCache;
 import com.aidredaline.backend.domain.runningsession.dto.*;
 import com.aidredaline.backend.domain.runningsession.entity.GpsTrackingPoint;
 import com.aidredaline.backend.domain.runningsession.entity.RunningSession;
+import com.aidredaline.backend.domain.runningsession.entity.SessionAnalysis;
+import com.aidredaline.backend.domain.runningsession.entity.SessionStatus;
+import com.aidredaline.backend.domain.runningsession.entity.UserRunningStatsBucket;
 import com.aidredaline.backend.domain.runningsession.geo.GeoFactory;
+import com.aidredaline.backend.domain.runningsession.geo.PathCollector;
+import com.aidredaline.backend.domain.runningsession.geo.PointTrack;
+import com.aidredaline.backend.domain.runningsession.geo.PolylineCodec;
+import com.aidredaline.backend.domain.runningsession.geo.TrackMath;
+import com.aidredaline.backend.domain.runningsession.guide.RouteGuidance;
+import com.aidredaline.backend.domain.runningsession.ingest.GpsWriteBuffer;
+import com.aidredaline.backend.domain.runningsession.ingest.filter.FilterState;
+import com.aidredaline.backend.domain.runningsession.ingest.filter.GpsFilterPipeline;
+import com.aidredaline.backend.domain.runningsession.ingest.filter.GpsFix;
+import com.aidredaline.backend.domain.runningsession.live.ActiveSession;
+import com.aidredaline.backend.domain.runningsession.live.ActiveSessionRegistry;
+import com.aidredaline.backend.domain.runningsession.live.LiveBroadcaster;
+import com.aidredaline.backend.domain.runningsession.live.TrackTotals;
 import com.aidredaline.backend.domain.runningsession.repository.GpsTrackingPointRepository;
+import com.aidredaline.backend.domain.runningsession.repository.GpsTrackingPointRepositoryCustom;
 import com.aidredaline.backend.domain.runningsession.repository.RunningSessionRepository;
+import com.aidredaline.backend.domain.runningsession.repository.SessionAnalysisRepository;
+import com.aidredaline.backend.domain.runningsession.repository.SessionPauseRepository;
+import com.aidredaline.backend.domain.runningsession.repository.UserRunningStatsBucketRepository;
+import com.aidredaline.backend.domain.runningsession.repository.UserRunningStatsRepository;
+import com.aidredaline.backend.domain.runningsession.stats.StatsGranularity;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.Point;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.*;
 
 /**
  * RunningSessionService
  * ---------------------
  * - 1️⃣ 러닝 시작
- * - 2️⃣ GPS 트래킹 저장
+ * - 2️⃣ GPS 트래킹 저장 (단건 / 일괄)
  * - 3️⃣ 일시정지 / 재개
  * - 4️⃣ 러닝 완료 (거리/페이스/칼로리 계산)
  * - 5️⃣ 상세/목록/통계 조회
@@ -38,11 +80,50 @@ import java.util.*;
 @RequiredArgsConstructor
 public class RunningSessionService {
 
+    // 일괄 업로드 1회 최대 포인트 수 (1Hz 기준 10분)
+    private static final int MAX_BATCH_SIZE = 600;
+
+    // 오프라인 가져오기 1회 최대 포인트 수 (1Hz 기준 24시간)
+    private static final int MAX_IMPORT_SIZE = 86_400;
+
+    // 포인트 스트리밍 응답을 이 개수마다 클라이언트로 내보냄
+    private static final int STREAM_FLUSH_EVERY = 500;
+
+    // 경로 단순화 최대 줌 레벨 (이보다 크면 단순화 효과 없음)
+    private static final int MAX_ZOOM = 22;
+
+    // 커서 기반 목록 1회 최대 개수
+    private static final int MAX_HISTORY_SIZE = 100;
+
+    // 기간별 통계 1회 최대 버킷 수 (주 단위 약 7년)
+    private static final int MAX_STAT_BUCKETS = 366;
+
     private final RunningSessionRepository sessionRepo;
     private final GpsTrackingPointRepository gpsRepo;
     private final GeneratedRouteRepository routeRepo;
     private final VoiceGuidanceService voiceGuidanceService;
     private final GeoFactory geo;
+    private final GpsWriteBuffer gpsBuffer;
+    private final ActiveSessionRegistry registry;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final SimplifiedPointsCache simplifiedPointsCache;
+    private final GpsFilterPipeline filterPipeline;
+    private final LiveBroadcaster liveBroadcaster;
+    private final RouteGuidance routeGuidance;
+    private final SessionAnalysisRepository analysisRepo;
+    private final AnalysisCache analysisCache;
+    private final UserRunningStatsRepository statsRepo;
+    private final UserRunningStatsBucketRepository bucketRepo;
+    private final SessionPauseRepository pauseRepo;
+
+    // 완료 경로 저장 시 Douglas-Peucker 허용 오차 (도, 0이면 단순화 안 함)
+    @Value("${running.path.simplify-tolerance-deg:0.00001}")
+    private double pathToleranceDeg;
+
+    // 이 개수 이상이면 INSERT 배치 대신 COPY로 저장
+    @Value("${gps.ingest.copy-threshold:200}")
+    private int copyThreshold;
 
     // 1️⃣ 러닝 세션 시작 (음성안내 데이터 포함)
     @Transactional
@@ -52,108 +133,349 @@ public class RunningSessionService {
         s.setUserId(req.userId());
         s.setRouteId(req.routeId());
         s.setStartTime(Instant.now());
-        s.setStatus("in_progress");
+        s.setStatus(SessionStatus.IN_PROGRESS);
         s.setCurrentPosition(geo.point(req.startLat(), req.startLng()));
+        s.setServerGuidance(Boolean.TRUE.equals(req.serverGuidance()));
         sessionRepo.save(s);
+        ActiveSession active = registry.register(s);
 
-        // 음성 안내 데이터 조회
+        // 음성 안내 데이터 조회 (서버 측 안내면 같은 목록으로 턴 안내 커서 준비)
         List<GuidancePointDto> guidancePoints =
                 voiceGuidanceService.getGuidancePoints(req.routeId());
+        if (active.isServerGuidance()) routeGuidance.prepareTurnCues(active, guidancePoints);
 
         return new StartSessionRes(
                 s.getSessionId(),
                 s.getStatus(),
                 s.getStartTime(),
-                guidancePoints
+                guidancePoints,
+                active.isServerGuidance()
         );
     }
 
-    // 2️⃣ GPS 트래킹 데이터 저장
+    // 2️⃣ GPS 트래킹 데이터 저장 (노이즈 필터 → 버퍼에 추가 후 백그라운드 flush)
+    // 세션 상태/위치는 ActiveSessionRegistry에서 처리하므로 DB 조회 없음
+    // 필터에서 거부된 포인트는 저장/누적하지 않음
+    // 저장된 포인트는 경로 이탈 판단 후 결과/이벤트를 응답으로 돌려줌
+    // HTTP(단건)와 WebSocket 채널이 같은 경로 사용
+    public TrackRes track(Integer sessionId, TrackReq req) {
+        ActiveSession active = registry.getActive(sessionId);
+
+        // NaN/무한대 좌표가 누적 거리에 들어가면 write-back이 실패하므로 저장 전에 거부
+        if (!isValidCoordinate(req.lat(), req.lng())) return TrackRes.REJECTED;
+        Instant recordedAt = Optional.ofNullable(req.recordedAt()).orElse(Instant.now());
+        if (!isWithinSessionWindow(active, recordedAt)) return TrackRes.REJECTED;
+
+        GpsFix fix = filterPipeline.apply(active.getFilterState(), toFix(req, recordedAt));
+        if (fix == null) return TrackRes.REJECTED;
+
+        // 누적값에 반영된 포인트만 저장 (완료 처리와 경합 / 마지막 포인트보다 과거 시간이면 저장하지 않음)
+        ActiveSession.RecordResult recorded = active.recordFix(fix);
+        if (recorded == ActiveSession.RecordResult.INACTIVE)
+            throw new IllegalStateException("Session not active");
+        if (recorded == ActiveSession.RecordResult.OUT_OF_ORDER) return TrackRes.REJECTED;
+        gpsBuffer.append(toPoint(sessionId, req, fix));
+        publishLive(active);
+
+        RouteGuidance.Result guidance = routeGuidance.onFix(active, fix.lat(), fix.lng());
+        return new TrackRes(true, guidance.offRoute(), toMeters(guidance.distanceFromRoute()),
+                toFraction(guidance.progress()), toMeters(guidance.distanceRemaining()), guidance.events());
+    }
+
+    private static BigDecimal toFraction(Double value) {
+        return value != null ? BigDecimal.valueOf(value).setScale(4, RoundingMode.HALF_UP) : null;
+    }
+
+    private static BigDecimal toMeters(Double value) {
+        return value != null ? BigDecimal.valueOf(value).setScale(1, RoundingMode.HALF_UP) : null;
+    }
+
+    // 2️⃣ GPS 트래킹 데이터 일괄 저장 (세션 조회 1회 + multi-row INSERT 또는 COPY 1회)
     @Transactional
-    public void track(Integer sessionId, TrackReq req) {
-        RunningSession s = sessionRepo.findById(sessionId)
-                .orElseThrow(() -> new IllegalArgumentException("Session not found"));
+    public TrackBatchRes trackBatch(Integer sessionId, TrackBatchReq req) {
+        return ingestBatch(sessionId, req, MAX_BATCH_SIZE);
+    }
 
-        if (!"in_progress".equals(s.getStatus()) && !"paused".equals(s.getStatus())) {
-            throw new IllegalStateException("Session not active");
+    // 2️⃣ 오프라인 기록 가져오기 (네트워크 없이 기록한 세션을 한 번에 업로드, COPY로 저장)
+    @Transactional
+    public TrackBatchRes importPoints(Integer sessionId, TrackBatchReq req) {
+        return ingestBatch(sessionId, req, MAX_IMPORT_SIZE);
+    }
+
+    private TrackBatchRes ingestBatch(Integer sessionId, TrackBatchReq req, int maxSize) {
+        List<TrackReq> fixes = Optional.ofNullable(req.points()).orElse(List.of());
+        if (fixes.size() > maxSize)
+            throw new IllegalArgumentException("Too many points in batch (max " + maxSize + ")");
+
+        ActiveSession active = registry.getActive(sessionId);
+
+        // 좌표 범위 오류, 세션 기간 밖, 시간 역순/중복(이미 반영된 마지막 포인트 포함), 노이즈 필터에 걸린 포인트는 거부
+        // 필터 상태는 복사본으로 진행하고 저장이 성공한 뒤에만 세션에 반영 (실패 시 롤백된 포인트가 남지 않도록)
+        FilterState filterState = active.getFilterState().copy();
+        List<GpsTrackingPoint> accepted = new ArrayList<>(fixes.size());
+        List<GpsFix> acceptedFixes = new ArrayList<>(fixes.size());
+        Instant lastRecordedAt = active.snapshot().lastPointAt();
+        for (TrackReq req : fixes) {
+            if (req == null || !isValidCoordinate(req.lat(), req.lng())) continue;
+
+            Instant recordedAt = Optional.ofNullable(req.recordedAt()).orElse(Instant.now());
+            if (!isWithinSessionWindow(active, recordedAt)) continue;
+            if (lastRecordedAt != null && !recordedAt.isAfter(lastRecordedAt)) continue;
+            lastRecordedAt = recordedAt;
+
+            GpsFix fix = filterPipeline.apply(filterState, toFix(req, recordedAt));
+            if (fix == null) continue;
+            accepted.add(toPoint(sessionId, req, fix));
+            acceptedFixes.add(fix);
+        }
+
+        RouteGuidance.Result last = RouteGuidance.NONE;
+        List<GuidanceEventRes> events = new ArrayList<>();
+        if (!accepted.isEmpty()) {
+            // 작은 배치는 INSERT 배치, 큰 배치는 COPY (문장 준비/바인딩 비용이 행 수에 비례하지 않음)
+            if (accepted.size() >= copyThreshold) gpsRepo.copyInsert(accepted);
+            else gpsRepo.insertBatch(accepted);
+
+            // 저장 성공 후 메모리 누적값 반영 (활성 확인 + 전체 반영이 한 번에 → 완료와 경합하면 아무것도 반영하지 않고 롤백)
+            // 그 사이 단건 track이 더 나중 포인트를 먼저 반영했으면 저장된 포인트와 누적값이 어긋나므로 롤백 후 재시도 (409)
+            ActiveSession.RecordResult recorded = active.recordFixes(acceptedFixes);
+            if (recorded == ActiveSession.RecordResult.INACTIVE)
+                throw new IllegalStateException("Session not active");
+            if (recorded == ActiveSession.RecordResult.OUT_OF_ORDER)
+                throw new OptimisticLockingFailureException("Points out of order with concurrent tracking");
+            active.getFilterState().copyFrom(filterState);
+
+            for (GpsFix fix : acceptedFixes) {
+                last = routeGuidance.onFix(active, fix.lat(), fix.lng());
+                events.addAll(last.events());
+            }
+            publishLive(active);
         }
 
+        return new TrackBatchRes(sessionId, fixes.size(), accepted.size(), fixes.size() - accepted.size(),
+                last.offRoute(), toFraction(last.progress()), toMeters(last.distanceRemaining()), events);
+    }
+
+    private static GpsFix toFix(TrackReq req, Instant recordedAt) {
+        return new GpsFix(req.lat(), req.lng(), recordedAt.toEpochMilli(),
+                toDoubleOrNaN(req.speed()), toDoubleOrNaN(req.altitude()), toDoubleOrNaN(req.accuracy()));
+    }
+
+    // 좌표/시간은 필터를 거친 값, 나머지는 요청 값
+    private GpsTrackingPoint toPoint(Integer sessionId, TrackReq req, GpsFix fix) {
         GpsTrackingPoint p = new GpsTrackingPoint();
         p.setSessionId(sessionId);
-        p.setLocation(geo.point(req.lat(), req.lng()));
-        p.setRecordedAt(Optional.ofNullable(req.recordedAt()).orElse(Instant.now()));
+        p.setLocation(geo.point(fix.lat(), fix.lng()));
+        p.setRecordedAt(Instant.ofEpochMilli(fix.recordedAtMillis()));
         p.setSpeed(req.speed());
         p.setAltitude(req.altitude());
         p.setAccuracy(req.accuracy());
+        return p;
+    }
+
+    // 세션 시작 이전 / 현재 이후 포인트는 시계 오차 범위까지만 허용 (조회가 이 범위로 파티션을 고름)
+    private static boolean isWithinSessionWindow(ActiveSession active, Instant recordedAt) {
+        Duration skew = GpsTrackingPointRepositoryCustom.MAX_CLOCK_SKEW;
+        return !recordedAt.isBefore(active.getStartTime().minus(skew))
+                && !recordedAt.isAfter(Instant.now().plus(skew));
+    }
 
-        gpsRepo.save(p);
-        s.setCurrentPosition(p.getLocation());
+    // NaN 비교는 항상 false이므로 NaN/무한대도 거부됨
+    private boolean isValidCoordinate(double lat, double lng) {
+        return lat >= -90 && lat <= 90 && lng >= -180 && lng <= 180;
+    }
+
+    // 관전자가 있을 때만 메모리 상태로 이벤트 생성
+    private void publishLive(ActiveSession active) {
+        if (liveBroadcaster.hasSubscribers(active.getSessionId())) {
+            liveBroadcaster.publish(LiveBroadcaster.toPosition(active));
+        }
+    }
+
+    // 5️⃣ 실시간 관전 구독 (SSE)
+    // 초기 값은 레지스트리 메모리 상태 사용 (레지스트리 미스일 때만 DB 조회 1회)
+    public SseEmitter subscribeLive(Integer sessionId) {
+        ActiveSession active = registry.getActive(sessionId);
+        return liveBroadcaster.subscribe(sessionId, LiveBroadcaster.toPosition(active));
     }
 
     // 3️⃣ 러닝 일시정지
+    // 세션 행은 읽지 않고 조건부 UPDATE(in_progress → paused, version 증가) + 구간 행 INSERT만 (일시정지 횟수와 무관)
+    // 동시 요청은 UPDATE의 상태 + version 조건으로 하나만 성공 (SELECT ... FOR UPDATE 없음)
+    // 기대 version은 레지스트리 메모리 값 (DB에서 다시 채울 때 읽은 값 + 이후 전이 횟수)
     @Transactional
     public void pause(Integer sessionId) {
-        RunningSession s = sessionRepo.findById(sessionId)
-                .orElseThrow(() -> new IllegalArgumentException("Session not found"));
-        if (!"in_progress".equals(s.getStatus()))
+        ActiveSession active = registry.getActive(sessionId);
+        long version = active.getVersion();
+        if (active.getStatus() != SessionStatus.IN_PROGRESS)
             throw new IllegalStateException("Not in progress");
 
-        List<Map<String, Object>> history = Optional.ofNullable(s.getPauseHistory()).orElse(new ArrayList<>());
-        history.add(Map.of("pauseAt", Instant.now().toString()));
+        Instant now = Instant.now();
+        if (sessionRepo.transitionStatus(sessionId, SessionStatus.IN_PROGRESS, SessionStatus.PAUSED, version, now) == 0)
+            throw new IllegalStateException("Not in progress");
+        pauseRepo.open(sessionId, now);
 
-        s.setPauseHistory(history);
-        s.setStatus("paused");
-        sessionRepo.save(s);
+        active.applyTransition(SessionStatus.PAUSED, version + 1);
+        publishLive(active);
     }
 
     // 3️⃣ 러닝 재개
+    // 조건부 UPDATE(paused → in_progress) + 열린 구간을 닫으며 totalPausedDuration 누적 (한 문장)
     @Transactional
     public void resume(Integer sessionId) {
-        RunningSession s = sessionRepo.findById(sessionId)
-                .orElseThrow(() -> new IllegalArgumentException("Session not found"));
-        if (!"paused".equals(s.getStatus()))
+        ActiveSession active = registry.getActive(sessionId);
+        long version = active.getVersion();
+        if (active.getStatus() != SessionStatus.PAUSED)
             throw new IllegalStateException("Not paused");
 
-        List<Map<String, Object>> history = Optional.ofNullable(s.getPauseHistory()).orElse(new ArrayList<>());
-        for (int i = history.size() - 1; i >= 0; i--) {
-            Map<String, Object> last = history.get(i);
-            if (!last.containsKey("resumeAt")) {
-                Instant pauseAt = Instant.parse((String) last.get("pauseAt"));
-                Instant resumeAt = Instant.now();
-                last.put("resumeAt", resumeAt.toString());
-                int pausedSeconds = (int) Duration.between(pauseAt, resumeAt).getSeconds();
-                s.setTotalPausedDuration(Optional.ofNullable(s.getTotalPausedDuration()).orElse(0) + pausedSeconds);
-                break;
-            }
-        }
+        Instant now = Instant.now();
+        if (sessionRepo.transitionStatus(sessionId, SessionStatus.PAUSED, SessionStatus.IN_PROGRESS, version, now) == 0)
+            throw new IllegalStateException("Not paused");
+        pauseRepo.close(sessionId, now);
 
-        s.setPauseHistory(history);
-        s.setStatus("in_progress");
-        sessionRepo.save(s);
+        active.applyTransition(SessionStatus.IN_PROGRESS, version + 1);
+        publishLive(active);
     }
 
     // 4️⃣ 러닝 완료 및 분석 (거리, 페이스, 칼로리)
+    // 거리/최고 속도는 트래킹 중 증분 계산된 값을 확정만 함 (recompute=true면 저장된 포인트로 재계산)
+    // 읽은 뒤 pause/resume이 먼저 커밋되면 version 검사 UPDATE가 실패 → OptimisticLockingFailureException (409)
     @Transactional
-    public CompleteSessionRes complete(Integer sessionId) {
+    public CompleteSessionRes complete(Integer sessionId, boolean recompute) {
+        Instant endTime = Instant.now();
         RunningSession s = sessionRepo.findById(sessionId)
                 .orElseThrow(() -> new IllegalArgumentException("Session not found"));
-        if (!List.of("in_progress", "paused").contains(s.getStatus()))
+        if (!s.getStatus().canTransitionTo(SessionStatus.COMPLETED))
             throw new IllegalStateException("Session must be active or paused");
 
-        Instant endTime = Instant.now();
+        // 메모리 상태를 먼저 COMPLETED로 (이후 track 거부, 레지스트리 제거는 커밋 이후 / 롤백 시 복구)
+        ActiveSession active = registry.removeOnCommit(sessionId, SessionStatus.COMPLETED);
+
+        // 버퍼에 남은 포인트는 별도 트랜잭션으로 저장 (완료 처리가 롤백되어도 포인트는 남음)
+        requiresNewTx().executeWithoutResult(status -> gpsBuffer.close(sessionId));
+
+        // 상태 전이 반영 (version 검사) → 이후 pause/resume의 조건부 UPDATE는 0건
         s.setEndTime(endTime);
-        s.setStatus("completed");
+        s.setStatus(SessionStatus.COMPLETED);
+        sessionRepo.saveAndFlush(s);
+
+        // 일시정지 중 완료하면 열린 구간을 완료 시각으로 닫음
+        // 상태 전이 이후에 닫아야 그 사이 pause()가 끼어들어 열린 구간이 남지 않음 (세션 행 잠금 보유 중)
+        // close()가 영속성 컨텍스트를 비우므로 누적값이 반영된 행을 다시 읽음
+        pauseRepo.close(sessionId, endTime);
+        s = sessionRepo.findById(sessionId)
+                .orElseThrow(() -> new IllegalArgumentException("Session not found"));
 
-        var points = gpsRepo.findBySessionIdOrderByRecordedAtAsc(sessionId);
-        BigDecimal totalDistance = BigDecimal.ZERO;
-        for (int i = 1; i < points.size(); i++)
-            totalDistance = totalDistance.add(BigDecimal.valueOf(
-                    distance(points.get(i - 1).getLocation(), points.get(i).getLocation())
-            ));
+        // 완료 경로를 한 번 만들어 actualPath에 저장 (지도/상세 조회는 이 geometry 하나만 읽음)
+        // 분석 결과도 함께 저장 (이후 분석 조회는 포인트를 다시 읽지 않음)
+        // 트래킹 중 증분으로 만든 경로/분석/누적값을 그대로 사용 (상태가 COMPLETED라 더 이상 바뀌지 않음)
+        // 레지스트리에 없거나 DB에서 다시 채운 세션(서버 재시작 등), recompute=true면 저장된 포인트를 한 번 읽어 계산
+        boolean incremental = active != null && !active.isRestoredFromDb() && !recompute;
+        PathCollector path;
+        TrackAggregator aggregator;
+        if (incremental) {
+            path = active.getPath();
+            aggregator = active.getAggregator();
+        } else {
+            path = new PathCollector();
+            aggregator = new TrackAggregator();
+            gpsRepo.streamBySessionId(sessionId, path.andThen(aggregator));
+        }
+        s.setActualPath(path.toLineString(geo, pathToleranceDeg));
+
+        TrackTotals totals = incremental ? active.snapshot() : aggregator.toTotals();
 
         long movingSeconds = Duration.between(s.getStartTime(), endTime).getSeconds()
                 - Optional.ofNullable(s.getTotalPausedDuration()).orElse(0);
         s.setMovingTime((int) movingSeconds);
+        applyTotals(s, totals);
+
+        sessionRepo.save(s);
+        saveAnalysis(s, aggregator);
+        addToUserStats(s);
+        publishCompletedAfterCommit(s);
+
+        return toCompleteRes(s, incremental ? routeGuidance.completionRate(active) : null);
+    }
+
+    // 완료 세션 1건을 사용자 누적 통계 + 주/월/년 버킷에 반영 (시작 시각의 한국 날짜 기준)
+    private void addToUserStats(RunningSession s) {
+        if (s.getUserId() == null) return;
+        statsRepo.addCompletedRun(s.getUserId(), s.getActualDistance(), s.getAveragePace());
+
+        LocalDate day = s.getStartTime().atZone(StatsGranularity.ZONE).toLocalDate();
+        bucketRepo.addCompletedRun(s.getUserId(),
+                StatsGranularity.WEEK.bucketStart(day),
+                StatsGranularity.MONTH.bucketStart(day),
+                StatsGranularity.YEAR.bucketStart(day),
+                s.getActualDistance(),
+                Optional.ofNullable(s.getMovingTime()).orElse(0));
+    }
+
+    // 분석 결과 저장 + 커밋 이후 캐시 교체 (averagePace가 먼저 확정되어 있어야 함)
+    private void saveAnalysis(RunningSession s, TrackAggregator aggregator) {
+        AnalysisRes analysis = aggregator.toAnalysis(s.getSessionId(), s.getAveragePace());
+        analysisRepo.save(new SessionAnalysis(s.getSessionId(), TrackAggregator.VERSION, analysis));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                analysisCache.put(s.getSessionId(), analysis);
+            }
+        });
+    }
+
+    // 관전 중인 구독자에게 최종 값 전송 후 구독 종료 (커밋 이후)
+    private void publishCompletedAfterCommit(RunningSession s) {
+        if (!liveBroadcaster.hasSubscribers(s.getSessionId())) return;
+
+        Point position = s.getCurrentPosition();
+        LivePositionRes last = new LivePositionRes(
+                s.getSessionId(),
+                s.getStatus(),
+                position != null ? position.getY() : null,
+                position != null ? position.getX() : null,
+                s.getActualDistance(),
+                Optional.ofNullable(s.getMovingTime()).orElse(0),
+                s.getLastPointAt()
+        );
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                liveBroadcaster.publish(last);
+            }
+        });
+    }
+
+    // 4️⃣ 완료된 세션 누적값/경로 재계산 (복구/검증용: 저장된 포인트 전체를 다시 읽음)
+    @Transactional
+    public CompleteSessionRes recompute(Integer sessionId) {
+        RunningSession s = sessionRepo.findById(sessionId)
+                .orElseThrow(() -> new IllegalArgumentException("Session not found"));
+        if (s.getStatus() != SessionStatus.COMPLETED)
+            throw new IllegalStateException("Session not completed");
+
+        PathCollector path = new PathCollector();
+        TrackAggregator aggregator = new TrackAggregator();
+        gpsRepo.streamBySessionId(sessionId, path.andThen(aggregator));
+        s.setActualPath(path.toLineString(geo, pathToleranceDeg));
+
+        applyTotals(s, aggregator.toTotals());
+        sessionRepo.saveAndFlush(s);
+        saveAnalysis(s, aggregator);
+        // 거리/페이스가 바뀌었을 수 있으므로 사용자 통계는 증분이 아니라 다시 집계
+        if (s.getUserId() != null) {
+            statsRepo.rebuildUser(s.getUserId());
+            bucketRepo.deleteUser(s.getUserId());
+            bucketRepo.rebuild(s.getUserId());
+        }
+
+        return toCompleteRes(s, null);
+    }
+
+    // 누적값 확정 + 페이스/칼로리 계산 (movingTime이 먼저 설정되어 있어야 함)
+    private void applyTotals(RunningSession s, TrackTotals totals) {
+        BigDecimal totalDistance = BigDecimal.valueOf(totals.distance());
+        long movingSeconds = Optional.ofNullable(s.getMovingTime()).orElse(0);
 
         BigDecimal minutes = BigDecimal.valueOf(movingSeconds)
                 .divide(BigDecimal.valueOf(60), 2, RoundingMode.HALF_UP);
@@ -166,181 +488,335 @@ public class RunningSessionService {
         s.setCalories(calories);
         s.setActualDistance(totalDistance);
         s.setAveragePace(pace);
+        s.setMaxSpeed(BigDecimal.valueOf(totals.maxSpeed()));
+        s.setPointCount((int) totals.pointCount());
+        s.setLastPointAt(totals.lastPointAt());
+        if (totals.lastLat() != null && totals.lastLng() != null) {
+            s.setCurrentPosition(geo.point(totals.lastLat(), totals.lastLng()));
+        }
+    }
 
-        sessionRepo.save(s);
-
+    // tracked: 트래킹 중 계산된 완료율 (없으면 actualPath로 다시 계산)
+    private CompleteSessionRes toCompleteRes(RunningSession s, BigDecimal tracked) {
         //완료율 계산(저장하진 않고)
-        BigDecimal completionRate = calculateCompletionRate(s.getRouteId(), totalDistance);
+        BigDecimal completionRate = tracked != null ? tracked : calculateCompletionRate(s);
 
         return new CompleteSessionRes(
                 s.getSessionId(),
                 s.getStartTime(),
                 s.getEndTime(),
-                totalDistance,
-                pace,
-                calories,
+                s.getActualDistance(),
+                s.getAveragePace(),
+                s.getCalories(),
                 completionRate
         );
     }
 
 //완료율 계산 메서드
-    private BigDecimal calculateCompletionRate(Integer routeId, BigDecimal actualDistance) {
+    // - 완료 경로(actualPath)를 경로 위에 선형 참조해 도달한 가장 먼 위치 기준으로 계산
+    // - 경로 geometry가 없으면 거리 비율로 대신함 (totalDistance는 km, actualDistance는 m)
+    private BigDecimal calculateCompletionRate(RunningSession s) {
+        Integer routeId = s.getRouteId();
         if (routeId == null) return BigDecimal.ZERO;
 
+        BigDecimal progress = routeGuidance.completionRate(routeId, s.getActualPath());
+        if (progress != null) return progress;
+
         return routeRepo.findById(routeId)
                 .map(route -> {
                     BigDecimal targetDistance = route.getTotalDistance();
-                    if (targetDistance == null || targetDistance.compareTo(BigDecimal.ZERO) == 0) {
+                    if (targetDistance == null || targetDistance.compareTo(BigDecimal.ZERO) == 0
+                            || s.getActualDistance() == null) {
                         return BigDecimal.ZERO;
                     }
-                    return actualDistance
-                            .divide(targetDistance, 4, RoundingMode.HALF_UP)
-                            .multiply(BigDecimal.valueOf(100));
+                    return s.getActualDistance()
+                            .divide(targetDistance.multiply(BigDecimal.valueOf(1000)), 4, RoundingMode.HALF_UP)
+                            .multiply(BigDecimal.valueOf(100))
+                            .min(BigDecimal.valueOf(100));
                 })
                 .orElse(BigDecimal.ZERO);
     }
 
-    // 내부 거리 계산 (Haversine)
-    private double distance(Point p1, Point p2) {
-        double R = 6371000;
-        double lat1 = Math.toRadians(p1.getY());
-        double lat2 = Math.toRadians(p2.getY());
-        double dLat = lat2 - lat1;
-        double dLon = Math.toRadians(p2.getX() - p1.getX());
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
-                + Math.cos(lat1) * Math.cos(lat2) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
-        return R * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-    }
-
-    // 5️⃣ 상세 조회
+    // 5️⃣ 상세 조회 (필요한 컬럼만 읽는 projection, 경로는 DB에서 인코딩)
     @Transactional(readOnly = true)
     public SessionDetailRes getDetail(Integer sessionId) {
-        RunningSession s = sessionRepo.findById(sessionId)
+        return sessionRepo.findDetail(sessionId)
                 .orElseThrow(() -> new IllegalArgumentException("Session not found"));
-        return new SessionDetailRes(s.getSessionId(), s.getStartTime(), s.getEndTime(),
-                s.getActualDistance(), s.getAveragePace(), s.getCalories(), s.getStatus());
     }
 
-    // 7️⃣ 러닝 목록 조회 (완료된 세션만, 최신순)
+    // 6️⃣ 경로 조회 (지도용, Encoded Polyline)
+    // - 완료 세션: 저장된 actualPath 하나만 읽음
+    // - 진행 중이거나 actualPath가 없는 예전 세션: 포인트를 스트리밍해 즉석에서 생성
+    public SessionPathRes getPath(Integer sessionId) {
+        gpsBuffer.flush(sessionId);
+
+        return readOnlyTx().execute(status -> {
+            RunningSession s = sessionRepo.findById(sessionId)
+                    .orElseThrow(() -> new IllegalArgumentException("Session not found"));
+
+            LineString line = s.getActualPath();
+            if (line == null) {
+                PathCollector path = new PathCollector();
+                gpsRepo.streamBySessionId(sessionId, path);
+                line = path.toLineString(geo, pathToleranceDeg);
+            }
+
+            return new SessionPathRes(
+                    sessionId,
+                    PolylineCodec.ENCODING,
+                    line != null ? line.getNumPoints() : 0,
+                    PolylineCodec.encode(line)
+            );
+        });
+    }
+
+    // 7️⃣ 러닝 목록 조회 (완료된 세션만, 최신순, 목록 컬럼만 읽는 projection)
     @Transactional(readOnly = true)
     public Page<SessionItemRes> getList(Integer userId, int page, int size) {
-        return sessionRepo.findByUserIdAndStatusOrderByStartTimeDesc(userId, "completed", PageRequest.of(page, size))
-                .map(s -> new SessionItemRes(
-                        s.getSessionId(),
-                        s.getStartTime(),
-                        s.getEndTime(),
-                        s.getActualDistance(),
-                        s.getAveragePace(),
-                        s.getCalories()
-                ));
-    }
-
-    // 7️⃣ 사용자 통계 요약 (완료 기준: 총 횟수 / 총 거리 / 평균 페이스)
-    @Transactional(readOnly = true)
-    public StatisticsRes getStatistics(Integer userId) {
-        List<Object[]> results = sessionRepo.getStatisticsSummary(userId);
+        return sessionRepo.findItems(userId, SessionStatus.COMPLETED, PageRequest.of(page, size));
+    }
 
-        if (results == null || results.isEmpty()) {
-            return new StatisticsRes(0, BigDecimal.ZERO, BigDecimal.ZERO);
+    // 7️⃣ 러닝 목록 조회 (커서 기반) - COUNT/OFFSET 없이 마지막 (startTime, sessionId) 다음부터 읽음
+    // size + 1개를 읽어 다음 목록 존재 여부 판단
+    @Transactional(readOnly = true)
+    public SessionSliceRes getHistory(Integer userId, String cursor, int size) {
+        if (size < 1 || size > MAX_HISTORY_SIZE)
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_HISTORY_SIZE);
+
+        List<SessionItemRes> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = sessionRepo.findFirstItems(userId, SessionStatus.COMPLETED, Limit.of(size + 1));
+        } else {
+            SessionCursor after = SessionCursor.decode(cursor);
+            rows = sessionRepo.findItemsAfter(userId, SessionStatus.COMPLETED, after.startTime(), after.sessionId(),
+                    Limit.of(size + 1));
         }
 
-        Object[] row = results.get(0);
-        Number count = (Number) row[0];
-        Number totalDistance = (Number) row[1];
-        Number avgPace = (Number) row[2];
+        boolean hasNext = rows.size() > size;
+        List<SessionItemRes> page = hasNext ? rows.subList(0, size) : rows;
+        SessionItemRes last = page.isEmpty() ? null : page.get(page.size() - 1);
+        String nextCursor = hasNext ? SessionCursor.of(last.startTime(), last.sessionId()).encode() : null;
 
-        return new StatisticsRes(
-                count.intValue(),
-                BigDecimal.valueOf(totalDistance.doubleValue()),
-                BigDecimal.valueOf(avgPace.doubleValue())
-        );
+        return new SessionSliceRes(List.copyOf(page), nextCursor, hasNext);
     }
 
-
-    // 6️⃣ GPS 포인트 목록 조회 (지도 시각화용)
+    // 7️⃣ 사용자 통계 요약 (완료 기준: 총 횟수 / 총 거리 / 평균 페이스 / 최고 페이스)
+    // 완료 시 갱신되는 user_running_stats 한 행만 읽음
     @Transactional(readOnly = true)
-    public List<GpsPointRes> getPoints(Integer sessionId) {
-        List<GpsTrackingPoint> points = gpsRepo.findBySessionIdOrderByRecordedAtAsc(sessionId);
-        return points.stream()
-                .map(p -> new GpsPointRes(
-                        p.getLocation().getY(),  // lat
-                        p.getLocation().getX(),  // lng
-                        p.getSpeed(),
-                        p.getAltitude(),
-                        p.getAccuracy(),
-                        p.getRecordedAt()
+    public StatisticsRes getStatistics(Integer userId) {
+        return statsRepo.findById(userId)
+                .map(stats -> new StatisticsRes(
+                        stats.getTotalRuns(),
+                        stats.getTotalDistance(),
+                        stats.getPaceCount() > 0
+                                ? stats.getPaceSum().divide(BigDecimal.valueOf(stats.getPaceCount()), 2, RoundingMode.HALF_UP)
+                                : BigDecimal.ZERO,
+                        stats.getBestPace()
                 ))
-                .toList();
+                .orElseGet(() -> new StatisticsRes(0, BigDecimal.ZERO, BigDecimal.ZERO, null));
     }
 
+    // 7️⃣ 기간별(주/월/년) 통계 - 버킷 테이블 범위 조회 한 번, 기록이 없는 기간은 0으로 채움
     @Transactional(readOnly = true)
-    public AnalysisRes analyze(Integer sessionId) {
+    public StatisticsBucketsRes getStatisticsBuckets(Integer userId, String granularity, LocalDate from, LocalDate to) {
+        StatsGranularity g = StatsGranularity.from(granularity);
+        LocalDate end = g.bucketStart(to != null ? to : LocalDate.now(StatsGranularity.ZONE));
+        LocalDate start = from != null ? g.bucketStart(from) : g.defaultFrom(end);
+        if (start.isAfter(end)) throw new IllegalArgumentException("from must not be after to");
+
+        Map<LocalDate, UserRunningStatsBucket> rows = new HashMap<>();
+        for (UserRunningStatsBucket b : bucketRepo.findRange(userId, g, start, end)) rows.put(b.getBucketStart(), b);
+
+        List<StatisticsBucketsRes.Bucket> buckets = new ArrayList<>();
+        for (LocalDate d = start; !d.isAfter(end); d = g.next(d)) {
+            if (buckets.size() == MAX_STAT_BUCKETS)
+                throw new IllegalArgumentException("Range too large (max " + MAX_STAT_BUCKETS + " buckets)");
+
+            UserRunningStatsBucket b = rows.get(d);
+            buckets.add(b == null
+                    ? new StatisticsBucketsRes.Bucket(d, 0, BigDecimal.ZERO, 0, BigDecimal.ZERO)
+                    : new StatisticsBucketsRes.Bucket(d, b.getTotalRuns(), b.getTotalDistance(), b.getMovingTime(),
+                            pace(b.getMovingTime(), b.getTotalDistance())));
+        }
+        return new StatisticsBucketsRes(userId, g.name().toLowerCase(Locale.ROOT), StatsGranularity.ZONE.getId(), buckets);
+    }
+
+    // 페이스 (min/km) - applyTotals와 같은 계산
+    private static BigDecimal pace(long movingSeconds, BigDecimal distanceMeters) {
+        BigDecimal minutes = BigDecimal.valueOf(movingSeconds)
+                .divide(BigDecimal.valueOf(60), 2, RoundingMode.HALF_UP);
+        BigDecimal km = distanceMeters.divide(BigDecimal.valueOf(1000), 3, RoundingMode.HALF_UP);
+        return km.compareTo(BigDecimal.ZERO) > 0
+                ? minutes.divide(km, 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+    }
+
+
+    // 6️⃣ GPS 포인트 목록 조회 (지도 시각화용)
+    // - 엔티티 목록을 만들지 않고 커서에서 읽은 행을 바로 JSON 배열 / NDJSON으로 출력
+    // - 버퍼 flush(쓰기)가 먼저 필요하므로 조회는 별도 읽기 전용 트랜잭션으로 실행
+    public void writePoints(Integer sessionId, OutputStream out, boolean ndjson) throws IOException {
+        gpsBuffer.flush(sessionId);
+
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            if (ndjson) gen.setRootValueSeparator(new SerializedString("\n"));
+            else gen.writeStartArray();
+
+            int[] written = {0};
+            readOnlyTx().executeWithoutResult(status -> gpsRepo.streamBySessionId(sessionId,
+                    (lat, lng, recordedAtMillis, speed, altitude, accuracy) -> {
+                        try {
+                            writePoint(gen, lat, lng, recordedAtMillis, speed, altitude, accuracy);
+                            if (++written[0] % STREAM_FLUSH_EVERY == 0) gen.flush();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }));
+
+            if (ndjson) gen.writeRaw('\n');
+            else gen.writeEndArray();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // 6️⃣-1 단순화된 GPS 포인트 목록 (지도 줌 레벨 / 허용 오차 기준 Douglas-Peucker)
+    // - zoom이 주어지면 그 줌의 1픽셀을 허용 오차로 사용, tolerance(도)가 주어지면 그대로 사용
+    // - 완료된 세션은 (세션, 허용 오차)별로 캐시
+    public List<GpsPointRes> getSimplifiedPoints(Integer sessionId, Integer zoom, Double tolerance) {
+        double toleranceDeg = resolveTolerance(zoom, tolerance);
+        gpsBuffer.flush(sessionId);
+
         RunningSession s = sessionRepo.findById(sessionId)
                 .orElseThrow(() -> new IllegalArgumentException("Session not found"));
-        var points = gpsRepo.findBySessionIdOrderByRecordedAtAsc(sessionId);
 
-        if (points.isEmpty()) {
-            return new AnalysisRes(s.getSessionId(), BigDecimal.ZERO, BigDecimal.ZERO,
-                    BigDecimal.ZERO, BigDecimal.ZERO, 0, List.of());
+        if (s.getStatus() != SessionStatus.COMPLETED) {
+            return simplifyPoints(sessionId, toleranceDeg);
         }
+        return simplifiedPointsCache.get(sessionId, toleranceDeg,
+                key -> simplifyPoints(key.sessionId(), key.toleranceDeg()));
+    }
 
-        // 거리, 속도, 페이스 계산
-        BigDecimal totalDistance = BigDecimal.ZERO;
-        double maxSpeed = 0;
-        double totalSpeed = 0;
-        int totalCalories = 0;
-        List<AnalysisRes.KmSplit> splits = new ArrayList<>();
-
-        BigDecimal segmentDistance = BigDecimal.ZERO;
-        Instant segmentStart = points.get(0).getRecordedAt();
-
-        for (int i = 1; i < points.size(); i++) {
-            double dist = distance(points.get(i - 1).getLocation(), points.get(i).getLocation());
-            totalDistance = totalDistance.add(BigDecimal.valueOf(dist));
-            segmentDistance = segmentDistance.add(BigDecimal.valueOf(dist));
-
-            double speed = Optional.ofNullable(points.get(i).getSpeed())
-                    .map(BigDecimal::doubleValue)
-                    .orElse(0.0);
-
-            totalSpeed += speed;
-            maxSpeed = Math.max(maxSpeed, speed);
-
-            // 1km 마다 split 기록
-            if (segmentDistance.doubleValue() >= 1000.0 || i == points.size() - 1) {
-                Instant segmentEnd = points.get(i).getRecordedAt();
-                double seconds = Duration.between(segmentStart, segmentEnd).getSeconds();
-                BigDecimal minutes = BigDecimal.valueOf(seconds / 60.0);
-                BigDecimal km = segmentDistance.divide(BigDecimal.valueOf(1000), 3, RoundingMode.HALF_UP);
-                BigDecimal pace = km.compareTo(BigDecimal.ZERO) > 0 ?
-                        minutes.divide(km, 2, RoundingMode.HALF_UP) : BigDecimal.ZERO;
-                int calories = km.multiply(BigDecimal.valueOf(60)).intValue();
-                totalCalories += calories;
-
-                splits.add(new AnalysisRes.KmSplit(
-                        splits.size() + 1,
-                        segmentDistance,
-                        pace,
-                        calories
-                ));
-
-                segmentDistance = BigDecimal.ZERO;
-                segmentStart = segmentEnd;
+    private double resolveTolerance(Integer zoom, Double tolerance) {
+        if (tolerance != null) {
+            if (!(tolerance > 0)) {
+                throw new IllegalArgumentException("tolerance must be positive");
             }
+            return tolerance;
+        }
+        if (zoom == null || zoom < 0 || zoom > MAX_ZOOM) {
+            throw new IllegalArgumentException("zoom must be between 0 and " + MAX_ZOOM);
+        }
+        return TrackMath.degreesPerPixel(zoom);
+    }
+
+    private List<GpsPointRes> simplifyPoints(Integer sessionId, double toleranceDeg) {
+        PointTrack track = new PointTrack();
+        readOnlyTx().executeWithoutResult(status -> gpsRepo.streamBySessionId(sessionId, track));
+
+        int[] kept = track.simplifiedIndices(geo, toleranceDeg);
+        List<GpsPointRes> points = new ArrayList<>(kept.length);
+        for (int i : kept) {
+            points.add(new GpsPointRes(
+                    track.lat(i),
+                    track.lng(i),
+                    toBigDecimal(track.speed(i)),
+                    toBigDecimal(track.altitude(i)),
+                    toBigDecimal(track.accuracy(i)),
+                    Instant.ofEpochMilli(track.time(i))
+            ));
         }
+        return points;
+    }
 
-        BigDecimal avgSpeed = BigDecimal.valueOf(totalSpeed / points.size());
-        BigDecimal avgPace = s.getAveragePace() != null ? s.getAveragePace() : BigDecimal.ZERO;
+    public void writePoints(List<GpsPointRes> points, OutputStream out, boolean ndjson) throws IOException {
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            if (ndjson) gen.setRootValueSeparator(new SerializedString("\n"));
+            else gen.writeStartArray();
 
-        return new AnalysisRes(
-                s.getSessionId(),
-                totalDistance,
-                avgPace,
-                BigDecimal.valueOf(maxSpeed),
-                avgSpeed,
-                totalCalories,
-                splits
-        );
+            for (GpsPointRes p : points) {
+                writePoint(gen, p.lat(), p.lng(), p.recordedAt().toEpochMilli(),
+                        toDoubleOrNaN(p.speed()), toDoubleOrNaN(p.altitude()), toDoubleOrNaN(p.accuracy()));
+            }
+
+            if (ndjson) gen.writeRaw('\n');
+            else gen.writeEndArray();
+        }
+    }
+
+    private static void writePoint(JsonGenerator gen, double lat, double lng, long recordedAtMillis,
+                                   double speed, double altitude, double accuracy) throws IOException {
+        gen.writeStartObject();
+        gen.writeNumberField("lat", lat);
+        gen.writeNumberField("lng", lng);
+        writeNullableNumber(gen, "speed", speed);
+        writeNullableNumber(gen, "altitude", altitude);
+        writeNullableNumber(gen, "accuracy", accuracy);
+        gen.writeStringField("recordedAt", Instant.ofEpochMilli(recordedAtMillis).toString());
+        gen.writeEndObject();
+    }
+
+    private static BigDecimal toBigDecimal(double value) {
+        return Double.isNaN(value) ? null : BigDecimal.valueOf(value);
+    }
+
+    private static double toDoubleOrNaN(BigDecimal value) {
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+
+    private static void writeNullableNumber(JsonGenerator gen, String field, double value) throws IOException {
+        if (Double.isNaN(value)) gen.writeNullField(field);
+        else gen.writeNumberField(field, value);
+    }
+
+    // 8️⃣ 러닝 세션 상세 분석 (커서 스트리밍 + 단일 패스 집계)
+    // 버퍼 flush(쓰기)가 먼저 필요하므로 조회는 별도 읽기 전용 트랜잭션으로 실행
+    public AnalysisRes analyze(Integer sessionId) {
+        // 완료 세션은 캐시 조회 한 번 (캐시에는 완료 세션만 들어감)
+        AnalysisRes cached = analysisCache.getIfPresent(sessionId);
+        if (cached != null) return cached;
+
+        RunningSession s = sessionRepo.findById(sessionId)
+                .orElseThrow(() -> new IllegalArgumentException("Session not found"));
+        if (s.getStatus() == SessionStatus.COMPLETED) {
+            return analysisCache.get(sessionId, id -> loadAnalysis(s));
+        }
+
+        // 진행 중 세션은 매번 계산 (버퍼에 남은 포인트 먼저 저장)
+        gpsBuffer.flush(sessionId);
+        return readOnlyTx().execute(status -> computeAnalysis(s));
+    }
+
+    // 저장된 분석 결과 (없거나 예전 버전이면 포인트로 다시 계산해 저장)
+    private AnalysisRes loadAnalysis(RunningSession s) {
+        return analysisRepo.findById(s.getSessionId())
+                .filter(a -> a.getAnalysisVersion() == TrackAggregator.VERSION)
+                .map(SessionAnalysis::getAnalysis)
+                .orElseGet(() -> new TransactionTemplate(transactionManager).execute(status -> {
+                    AnalysisRes analysis = computeAnalysis(s);
+                    analysisRepo.save(new SessionAnalysis(s.getSessionId(), TrackAggregator.VERSION, analysis));
+                    return analysis;
+                }));
+    }
+
+    private AnalysisRes computeAnalysis(RunningSession s) {
+        TrackAggregator aggregator = new TrackAggregator();
+        gpsRepo.streamBySessionId(s.getSessionId(), aggregator);
+        return aggregator.toAnalysis(s.getSessionId(), s.getAveragePace());
+    }
+
+    private TransactionTemplate requiresNewTx() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return tx;
+    }
+
+    private TransactionTemplate readOnlyTx() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        return tx;
     }
 
 }
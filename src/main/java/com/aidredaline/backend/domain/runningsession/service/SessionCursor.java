@@ -0,0 +1,54 @@
+package com.aidredaline.backend.domain.runningsession.service;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * 완료 목록 커서 (마지막으로 받은 세션의 startTime, sessionId)
+ * - 클라이언트에는 불투명 문자열로만 노출: base64url(startTime 마이크로초 8바이트 + sessionId 4바이트)
+ * - PostgreSQL timestamp 정밀도(마이크로초)에 맞춰 자르므로 같은 행을 다시 비교해도 값이 일치
+ */
+record SessionCursor(Instant startTime, Integer sessionId) {
+
+    private static final int SIZE = Long.BYTES + Integer.BYTES;
+
+    // 세션 시작 시각으로 가능한 범위 (밖이면 조작된 커서, DB 바인딩 전에 거부)
+    private static final Instant MAX_START_TIME = Instant.parse("9999-12-31T23:59:59.999999Z");
+
+    static SessionCursor of(Instant startTime, Integer sessionId) {
+        return new SessionCursor(startTime.truncatedTo(ChronoUnit.MICROS), sessionId);
+    }
+
+    String encode() {
+        long micros = ChronoUnit.MICROS.between(Instant.EPOCH, startTime);
+        ByteBuffer buf = ByteBuffer.allocate(SIZE).putLong(micros).putInt(sessionId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buf.array());
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 맞지 않을 때
+     */
+    static SessionCursor decode(String cursor) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (bytes.length != SIZE) throw new IllegalArgumentException("Invalid cursor");
+
+        ByteBuffer buf = ByteBuffer.wrap(bytes);
+        Instant startTime;
+        try {
+            startTime = Instant.EPOCH.plus(buf.getLong(), ChronoUnit.MICROS);
+        } catch (ArithmeticException | DateTimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (startTime.isBefore(Instant.EPOCH) || startTime.isAfter(MAX_START_TIME))
+            throw new IllegalArgumentException("Invalid cursor");
+        return new SessionCursor(startTime, buf.getInt());
+    }
+}
@@ -0,0 +1,64 @@
+package com.aidredaline.backend.domain.runningsession.stats;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+/**
+ * 기간별 통계 단위 (버킷 시작일 기준, 한국 시간)
+ * - WEEK : 월요일 시작 (PostgreSQL date_trunc('week')와 동일)
+ * - MONTH: 1일 시작
+ * - YEAR : 1월 1일 시작
+ */
+public enum StatsGranularity {
+
+    WEEK(12),
+    MONTH(12),
+    YEAR(5);
+
+    // 세션 시작 시각을 이 시간대 날짜로 바꿔 버킷을 정함
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    // 기간을 지정하지 않았을 때 보여줄 버킷 수 (종료 버킷 포함)
+    private final int defaultBuckets;
+
+    StatsGranularity(int defaultBuckets) {
+        this.defaultBuckets = defaultBuckets;
+    }
+
+    public static StatsGranularity from(String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Invalid granularity: " + value);
+        }
+    }
+
+    public LocalDate bucketStart(LocalDate date) {
+        return switch (this) {
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+            case YEAR -> date.withDayOfYear(1);
+        };
+    }
+
+    public LocalDate next(LocalDate bucketStart) {
+        return switch (this) {
+            case WEEK -> bucketStart.plusWeeks(1);
+            case MONTH -> bucketStart.plusMonths(1);
+            case YEAR -> bucketStart.plusYears(1);
+        };
+    }
+
+    // to가 속한 버킷을 포함해 기본 개수만큼 거슬러 올라간 시작 버킷
+    public LocalDate defaultFrom(LocalDate to) {
+        LocalDate start = bucketStart(to);
+        return switch (this) {
+            case WEEK -> start.minusWeeks(defaultBuckets - 1);
+            case MONTH -> start.minusMonths(defaultBuckets - 1);
+            case YEAR -> start.minusYears(defaultBuckets - 1);
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.aidredaline.backend.domain.runningsession.stats;
+
+import com.aidredaline.backend.domain.runningsession.repository.UserRunningStatsBucketRepository;
+import com.aidredaline.backend.domain.runningsession.repository.UserRunningStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 사용자 통계(user_running_stats, user_running_stats_buckets) 재집계 작업
+ * - 평소에는 complete()의 증분 UPSERT로 유지되고, 이 작업은 오차 보정용
+ *   · 초기 적재(005/006 SQL) 이후 배포 전까지 완료된 세션, 수동으로 수정/삭제된 세션 등
+ * - 재집계 도중 완료된 세션은 재집계 값에 덮여 빠질 수 있으나 다음 실행에서 다시 맞춰짐
+ */
+@Slf4j
+@Component
+public class UserStatsRebuildJob {
+
+    private final UserRunningStatsRepository statsRepo;
+    private final UserRunningStatsBucketRepository bucketRepo;
+    private final TransactionTemplate tx;
+
+    @Value("${running.stats.rebuild.enabled:true}")
+    private boolean enabled;
+
+    public UserStatsRebuildJob(UserRunningStatsRepository statsRepo,
+                               UserRunningStatsBucketRepository bucketRepo,
+                               PlatformTransactionManager transactionManager) {
+        this.statsRepo = statsRepo;
+        this.bucketRepo = bucketRepo;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${running.stats.rebuild.cron:0 0 5 * * *}", zone = "Asia/Seoul")
+    public void rebuildScheduled() {
+        if (enabled) rebuild();
+    }
+
+    public void rebuild() {
+        try {
+            long start = System.nanoTime();
+            int[] counts = tx.execute(status -> {
+                int users = statsRepo.rebuildAll();
+                int removed = statsRepo.deleteOrphans();
+                // 기간 통계는 버킷이 사라질 수도 있으므로 지우고 다시 채움 (같은 트랜잭션이라 조회는 이전 값을 봄)
+                bucketRepo.deleteAllRows();
+                int buckets = bucketRepo.rebuild(null);
+                return new int[]{users, removed, buckets};
+            });
+            log.info("사용자 통계 재집계 완료: users={}, removed={}, buckets={}, took={}ms",
+                    counts[0], counts[1], counts[2], (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("사용자 통계 재집계 실패", e);
+        }
+    }
+}
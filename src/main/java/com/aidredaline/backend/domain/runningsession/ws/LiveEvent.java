@@ -0,0 +1,41 @@
+package com.aidredaline.backend.domain.runningsession.ws;
+
+import com.aidredaline.backend.domain.runningsession.dto.GuidanceEventRes;
+import com.aidredaline.backend.domain.runningsession.dto.TrackRes;
+import com.aidredaline.backend.domain.runningsession.entity.SessionStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 실시간 채널에서 러너에게 보내는 이벤트 (WebSocket 텍스트 프레임, JSON)
+ * - ACK   : 바이너리 프레임 처리 결과 + 현재 누적값 + 경로 이탈 상태 / 진행률 / 새 안내 이벤트
+ * - ERROR : 처리 실패 (세션 비활성 등, 이후 연결 종료될 수 있음)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LiveEvent(
+        String type,
+        Integer received,
+        Integer accepted,
+        BigDecimal distance,
+        Long pointCount,
+        SessionStatus status,
+        Boolean offRoute,
+        BigDecimal progress,
+        BigDecimal distanceRemaining,
+        List<GuidanceEventRes> events,
+        String message
+) {
+
+    public static LiveEvent ack(int received, int accepted, BigDecimal distance, long pointCount, SessionStatus status,
+                                TrackRes last, List<GuidanceEventRes> events) {
+        return new LiveEvent("ACK", received, accepted, distance, pointCount, status,
+                last.offRoute(), last.progress(), last.distanceRemaining(),
+                events.isEmpty() ? null : events, null);
+    }
+
+    public static LiveEvent error(String message) {
+        return new LiveEvent("ERROR", null, null, null, null, null, null, null, null, null, message);
+    }
+}
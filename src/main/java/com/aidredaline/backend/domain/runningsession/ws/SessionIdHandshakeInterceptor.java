@@ -0,0 +1,42 @@
+package com.aidredaline.backend.domain.runningsession.ws;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 핸드셰이크 URL(/ws/running-sessions/{sessionId}/...)에서 세션 ID를 꺼내 WebSocket 속성에 저장
+ * - 숫자가 아니면 400으로 거절
+ */
+public class SessionIdHandshakeInterceptor implements HandshakeInterceptor {
+
+    private static final Pattern SESSION_PATH = Pattern.compile("/ws/running-sessions/(\\d+)/");
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        Matcher m = SESSION_PATH.matcher(request.getURI().getPath());
+        if (!m.find()) {
+            response.setStatusCode(HttpStatus.BAD_REQUEST);
+            return false;
+        }
+        try {
+            attributes.put(TrackingWebSocketHandler.SESSION_ID_ATTR, Integer.valueOf(m.group(1)));
+            return true;
+        } catch (NumberFormatException e) {
+            response.setStatusCode(HttpStatus.BAD_REQUEST);
+            return false;
+        }
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.aidredaline.backend.domain.runningsession.ws;
+
+import com.aidredaline.backend.domain.runningsession.dto.TrackReq;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * WebSocket GPS 바이너리 프레임 (big-endian, 포인트당 36바이트, 한 프레임에 여러 포인트 가능)
+ * <pre>
+ * offset  size  type     field
+ *  0      8     int64    recordedAt (epoch ms)
+ *  8      8     float64  lat
+ * 16      8     float64  lng
+ * 24      4     float32  speed    (m/s,  NaN = 없음)
+ * 28      4     float32  altitude (m,    NaN = 없음)
+ * 32      4     float32  accuracy (m,    NaN = 없음)
+ * </pre>
+ * 위/경도는 float32로는 약 1m 단위로 깎이므로 float64 사용
+ * 위/경도가 NaN/무한대이거나 범위를 벗어나면 프레임 전체를 거부, 나머지 값의 NaN/무한대는 "없음"으로 처리
+ */
+public final class TrackingFrameCodec {
+
+    public static final int FIX_BYTES = 36;
+
+    private TrackingFrameCodec() {
+    }
+
+    public static List<TrackReq> decode(ByteBuffer frame) {
+        ByteBuffer buf = frame.slice().order(ByteOrder.BIG_ENDIAN);
+        if (buf.remaining() == 0 || buf.remaining() % FIX_BYTES != 0) {
+            throw new IllegalArgumentException("Frame length must be a multiple of " + FIX_BYTES);
+        }
+
+        List<TrackReq> fixes = new ArrayList<>(buf.remaining() / FIX_BYTES);
+        while (buf.hasRemaining()) {
+            long recordedAt = buf.getLong();
+            double lat = buf.getDouble();
+            double lng = buf.getDouble();
+            if (!isValidCoordinate(lat, lng)) {
+                throw new IllegalArgumentException("Invalid coordinate: " + lat + ", " + lng);
+            }
+            BigDecimal speed = toDecimal(buf.getFloat());
+            BigDecimal altitude = toDecimal(buf.getFloat());
+            BigDecimal accuracy = toDecimal(buf.getFloat());
+            fixes.add(new TrackReq(lat, lng, speed, altitude, accuracy, Instant.ofEpochMilli(recordedAt)));
+        }
+        return fixes;
+    }
+
+    // NaN 비교는 항상 false이므로 범위 검사로 NaN/무한대도 함께 걸러짐
+    private static boolean isValidCoordinate(double lat, double lng) {
+        return lat >= -90 && lat <= 90 && lng >= -180 && lng <= 180;
+    }
+
+    // float의 이진 오차(3.2f → 3.2000000476…)가 DB에 남지 않도록 10진 표기로 변환
+    private static BigDecimal toDecimal(float value) {
+        return Float.isFinite(value) ? new BigDecimal(Float.toString(value)) : null;
+    }
+}
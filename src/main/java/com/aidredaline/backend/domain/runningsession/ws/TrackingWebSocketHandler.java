@@ -0,0 +1,139 @@
+package com.aidredaline.backend.domain.runningsession.ws;
+
+import com.aidredaline.backend.domain.runningsession.dto.GuidanceEventRes;
+import com.aidredaline.backend.domain.runningsession.dto.TrackReq;
+import com.aidredaline.backend.domain.runningsession.dto.TrackRes;
+import com.aidredaline.backend.domain.runningsession.live.ActiveSession;
+import com.aidredaline.backend.domain.runningsession.live.ActiveSessionRegistry;
+import com.aidredaline.backend.domain.runningsession.live.TrackTotals;
+import com.aidredaline.backend.domain.runningsession.service.RunningSessionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 러닝 세션 실시간 트래킹 WebSocket (/ws/running-sessions/{sessionId}/tracking)
+ * ------------------------------------------------------------------------
+ * - 클라이언트 → 서버: 바이너리 프레임 (TrackingFrameCodec), 프레임당 포인트 1개 이상
+ * - 서버 → 클라이언트: JSON 텍스트 프레임 (LiveEvent, 경로 이탈 등 안내 이벤트 포함)
+ * - 포인트는 HTTP와 같은 RunningSessionService.track 경로로 저장 (필터 / 버퍼 / 누적값 동일)
+ * - 연결 시 세션이 활성 상태가 아니면 바로 종료
+ *
+ * 메트릭:
+ * - ws.tracking.connections : 현재 연결 수
+ * - ws.tracking.fixes       : 수신한 포인트 수
+ */
+@Slf4j
+@Component
+public class TrackingWebSocketHandler extends BinaryWebSocketHandler {
+
+    static final String SESSION_ID_ATTR = "runningSessionId";
+    private static final String COUNTED_ATTR = "trackingConnectionCounted";
+
+    private final RunningSessionService service;
+    private final ActiveSessionRegistry registry;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Counter fixCounter;
+
+    public TrackingWebSocketHandler(RunningSessionService service,
+                                    ActiveSessionRegistry registry,
+                                    ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry) {
+        this.service = service;
+        this.registry = registry;
+        this.objectMapper = objectMapper;
+
+        Gauge.builder("ws.tracking.connections", connections, AtomicInteger::get)
+                .description("실시간 트래킹 WebSocket 연결 수")
+                .register(meterRegistry);
+        this.fixCounter = Counter.builder("ws.tracking.fixes")
+                .description("WebSocket으로 수신한 GPS 포인트 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession ws) throws Exception {
+        Integer sessionId = sessionId(ws);
+        try {
+            registry.getActive(sessionId);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            send(ws, LiveEvent.error(e.getMessage()));
+            ws.close(CloseStatus.POLICY_VIOLATION.withReason(e.getMessage()));
+            return;
+        }
+        ws.getAttributes().put(COUNTED_ATTR, Boolean.TRUE);
+        connections.incrementAndGet();
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession ws, BinaryMessage message) throws Exception {
+        Integer sessionId = sessionId(ws);
+
+        List<TrackReq> fixes;
+        try {
+            fixes = TrackingFrameCodec.decode(message.getPayload());
+        } catch (IllegalArgumentException e) {
+            send(ws, LiveEvent.error(e.getMessage()));
+            return;
+        }
+        fixCounter.increment(fixes.size());
+
+        try {
+            int accepted = 0;
+            TrackRes last = TrackRes.REJECTED;
+            List<GuidanceEventRes> events = new ArrayList<>();
+            for (TrackReq fix : fixes) {
+                TrackRes res = service.track(sessionId, fix);
+                if (!res.accepted()) continue;
+                accepted++;
+                last = res;
+                events.addAll(res.events());
+            }
+
+            ActiveSession active = registry.getActive(sessionId);
+            TrackTotals totals = active.snapshot();
+            send(ws, LiveEvent.ack(fixes.size(), accepted,
+                    BigDecimal.valueOf(totals.distance()).setScale(2, RoundingMode.HALF_UP),
+                    totals.pointCount(), active.getStatus(), last, events));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            // 세션이 완료/취소되었거나 사라짐 → 더 받을 수 없으므로 종료
+            send(ws, LiveEvent.error(e.getMessage()));
+            ws.close(CloseStatus.NORMAL.withReason(e.getMessage()));
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession ws, CloseStatus status) {
+        if (ws.getAttributes().remove(COUNTED_ATTR) != null) connections.decrementAndGet();
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession ws, Throwable exception) {
+        log.warn("트래킹 WebSocket 오류: sessionId={}, cause={}", ws.getAttributes().get(SESSION_ID_ATTR), exception.getMessage());
+    }
+
+    private void send(WebSocketSession ws, LiveEvent event) throws IOException {
+        if (ws.isOpen()) ws.sendMessage(new TextMessage(objectMapper.writeValueAsString(event)));
+    }
+
+    private static Integer sessionId(WebSocketSession ws) {
+        return (Integer) ws.getAttributes().get(SESSION_ID_ATTR);
+    }
+}
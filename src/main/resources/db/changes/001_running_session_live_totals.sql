@@ -0,0 +1,6 @@
+-- 트래킹 중 증분 누적값 저장용 컬럼 (user-004)
+-- ddl-auto: validate 이므로 배포 전에 수동으로 적용할 것
+ALTER TABLE running_sessions
+    ADD COLUMN IF NOT EXISTS max_speed     NUMERIC,
+    ADD COLUMN IF NOT EXISTS point_count   INTEGER,
+    ADD COLUMN IF NOT EXISTS last_point_at TIMESTAMPTZ;
@@ -0,0 +1,70 @@
+-- gps_tracking_points 월별 범위 파티션 전환 + 보관(archive) 테이블
+-- ddl-auto: validate 이므로 배포 전에 수동으로 적용할 것
+-- ⚠️ 기존 행을 새 테이블로 복사하므로 점검 시간에 실행할 것 (트래킹 쓰기 중지 상태)
+
+BEGIN;
+
+-- 1) 보관 테이블: 세션당 압축 blob 한 행 (TrackArchiveCodec)
+CREATE TABLE IF NOT EXISTS gps_track_archives (
+    session_id        INTEGER PRIMARY KEY REFERENCES running_sessions (session_id) ON DELETE CASCADE,
+    codec             VARCHAR(40)  NOT NULL,
+    point_count       INTEGER      NOT NULL,
+    first_recorded_at TIMESTAMPTZ,
+    last_recorded_at  TIMESTAMPTZ,
+    data              BYTEA        NOT NULL,
+    archived_at       TIMESTAMPTZ  NOT NULL DEFAULT now()
+);
+
+-- 2) 기존 테이블 교체
+ALTER TABLE gps_tracking_points RENAME TO gps_tracking_points_old;
+
+-- 파티션 테이블의 PK는 파티션 키를 포함해야 함 → (point_id, recorded_at)
+-- point_id는 기존 시퀀스를 그대로 사용 (JPA 엔티티는 point_id만 @Id로 사용)
+CREATE TABLE gps_tracking_points (
+    point_id    INTEGER     NOT NULL DEFAULT nextval('gps_tracking_points_point_id_seq'),
+    session_id  INTEGER     NOT NULL REFERENCES running_sessions (session_id) ON DELETE CASCADE,
+    location    geometry(Point, 4326),
+    recorded_at TIMESTAMPTZ NOT NULL,
+    accuracy    NUMERIC,
+    speed       NUMERIC,
+    altitude    NUMERIC,
+    PRIMARY KEY (point_id, recorded_at)
+) PARTITION BY RANGE (recorded_at);
+
+ALTER SEQUENCE gps_tracking_points_point_id_seq OWNED BY gps_tracking_points.point_id;
+
+-- 세션 단위 조회 (streamBySessionId) 용 인덱스, 각 파티션에 자동 생성됨
+CREATE INDEX idx_gps_tracking_points_session_time ON gps_tracking_points (session_id, recorded_at);
+
+-- 3) 기존 데이터 범위 ~ 다음 달까지 월별 파티션 생성 (이후는 GpsPartitionMaintenance가 생성)
+DO $$
+DECLARE
+    m     DATE;
+    last  DATE;
+BEGIN
+    SELECT date_trunc('month', COALESCE(MIN(recorded_at), now()) AT TIME ZONE 'UTC')::date
+    INTO m FROM gps_tracking_points_old;
+    last := (date_trunc('month', now() AT TIME ZONE 'UTC') + INTERVAL '1 month')::date;
+
+    WHILE m <= last LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS gps_tracking_points_y%sm%s PARTITION OF gps_tracking_points '
+                || 'FOR VALUES FROM (%L) TO (%L)',
+            to_char(m, 'YYYY'), to_char(m, 'MM'),
+            m::text || ' 00:00:00+00', (m + INTERVAL '1 month')::date::text || ' 00:00:00+00');
+        m := (m + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+-- 범위 밖(기록 시간이 크게 어긋난 단말 등) 행 보호용
+CREATE TABLE gps_tracking_points_default PARTITION OF gps_tracking_points DEFAULT;
+
+-- 4) 데이터 이전
+INSERT INTO gps_tracking_points (point_id, session_id, location, recorded_at, accuracy, speed, altitude)
+SELECT point_id, session_id, location, recorded_at, accuracy, speed, altitude
+FROM gps_tracking_points_old
+WHERE recorded_at IS NOT NULL;
+
+DROP TABLE gps_tracking_points_old;
+
+COMMIT;
@@ -0,0 +1,4 @@
+-- 서버 측 턴 안내 사용 여부 (세션 시작 시 선택)
+-- ddl-auto: validate 이므로 배포 전에 수동으로 적용할 것
+ALTER TABLE running_sessions
+    ADD COLUMN IF NOT EXISTS server_guidance BOOLEAN NOT NULL DEFAULT FALSE;
@@ -0,0 +1,8 @@
+-- 완료된 세션의 분석 결과 (완료/재계산 시 기록, 조회는 이 행 하나만 읽음)
+-- ddl-auto: validate 이므로 배포 전에 수동으로 적용할 것
+CREATE TABLE IF NOT EXISTS session_analyses (
+    session_id       INTEGER PRIMARY KEY REFERENCES running_sessions (session_id) ON DELETE CASCADE,
+    analysis_version INTEGER     NOT NULL,
+    analysis         JSONB       NOT NULL,
+    computed_at      TIMESTAMPTZ NOT NULL
+);
@@ -0,0 +1,21 @@
+-- 사용자별 완료 세션 누적 통계 (complete 시 증분 갱신, UserStatsRebuildJob이 재집계)
+-- ddl-auto: validate 이므로 배포 전에 수동으로 적용할 것
+CREATE TABLE IF NOT EXISTS user_running_stats (
+    user_id        INTEGER PRIMARY KEY,
+    total_runs     INTEGER     NOT NULL,
+    total_distance NUMERIC     NOT NULL,
+    pace_sum       NUMERIC     NOT NULL,
+    pace_count     INTEGER     NOT NULL,
+    best_pace      NUMERIC,
+    updated_at     TIMESTAMPTZ NOT NULL
+);
+
+-- 초기 적재 (이후 누락/오차는 UserStatsRebuildJob이 보정)
+INSERT INTO user_running_stats (user_id, total_runs, total_distance, pace_sum, pace_count, best_pace, updated_at)
+SELECT user_id, COUNT(*), COALESCE(SUM(actual_distance), 0), COALESCE(SUM(average_pace), 0),
+       COUNT(average_pace), MIN(average_pace) FILTER (WHERE average_pace > 0), now()
+FROM running_sessions
+WHERE user_id IS NOT NULL
+  AND status = 'completed'
+GROUP BY user_id
+ON CONFLICT (user_id) DO NOTHING;
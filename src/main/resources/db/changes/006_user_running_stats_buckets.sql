@@ -0,0 +1,27 @@
+-- 사용자별 기간(주/월/년) 누적 통계 (complete 시 증분 갱신, UserStatsRebuildJob이 재집계)
+-- 버킷 시작일은 한국 시간 기준 (주는 월요일 시작)
+-- ddl-auto: validate 이므로 배포 전에 수동으로 적용할 것
+CREATE TABLE IF NOT EXISTS user_running_stats_buckets (
+    user_id        INTEGER     NOT NULL,
+    granularity    VARCHAR(10) NOT NULL,
+    bucket_start   DATE        NOT NULL,
+    total_runs     INTEGER     NOT NULL,
+    total_distance NUMERIC     NOT NULL,
+    moving_time    BIGINT      NOT NULL,
+    updated_at     TIMESTAMPTZ NOT NULL,
+    PRIMARY KEY (user_id, granularity, bucket_start)
+);
+
+-- 초기 적재
+INSERT INTO user_running_stats_buckets
+       (user_id, granularity, bucket_start, total_runs, total_distance, moving_time, updated_at)
+SELECT s.user_id, g.granularity,
+       CAST(date_trunc(lower(g.granularity), s.start_time AT TIME ZONE 'Asia/Seoul') AS DATE),
+       COUNT(*), COALESCE(SUM(s.actual_distance), 0), COALESCE(SUM(s.moving_time), 0), now()
+FROM running_sessions s
+CROSS JOIN (VALUES ('WEEK'), ('MONTH'), ('YEAR')) AS g (granularity)
+WHERE s.status = 'completed'
+  AND s.user_id IS NOT NULL
+  AND s.start_time IS NOT NULL
+GROUP BY 1, 2, 3
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,4 @@
+-- 완료 목록 커서 조회용 인덱스 (커서 위치부터 범위 스캔 + 정렬을 인덱스 순서로 처리)
+-- ddl-auto: validate 이므로 배포 전에 수동으로 적용할 것
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_running_sessions_user_status_start
+    ON running_sessions (user_id, status, start_time DESC, session_id DESC);
@@ -0,0 +1,32 @@
+-- 일시정지 구간을 running_sessions.pause_history(JSONB) 대신 행으로 저장
+-- - pause/resume은 행 1개 INSERT/UPDATE만 하고 JSONB 전체를 다시 쓰지 않음
+-- - 세션당 열린 구간은 최대 1개 (부분 유니크 인덱스)
+-- ddl-auto: validate 이므로 배포 전에 수동으로 적용할 것 (한 트랜잭션으로)
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS session_pauses (
+    pause_id   BIGSERIAL PRIMARY KEY,
+    session_id INTEGER     NOT NULL REFERENCES running_sessions (session_id) ON DELETE CASCADE,
+    paused_at  TIMESTAMPTZ NOT NULL,
+    resumed_at TIMESTAMPTZ
+);
+
+CREATE INDEX IF NOT EXISTS idx_session_pauses_session ON session_pauses (session_id, paused_at);
+CREATE UNIQUE INDEX IF NOT EXISTS uq_session_pauses_open ON session_pauses (session_id) WHERE resumed_at IS NULL;
+
+-- 기존 이력 이관 ({"pauseAt": "...", "resumeAt": "..."} 배열)
+INSERT INTO session_pauses (session_id, paused_at, resumed_at)
+SELECT s.session_id,
+       CAST(p ->> 'pauseAt' AS TIMESTAMPTZ),
+       CAST(p ->> 'resumeAt' AS TIMESTAMPTZ)
+FROM running_sessions s
+CROSS JOIN LATERAL jsonb_array_elements(s.pause_history) AS p
+WHERE jsonb_typeof(s.pause_history) = 'array'
+  AND p ? 'pauseAt'
+  -- 닫히지 않은 구간은 일시정지 중인 세션의 것만 (세션당 1개, 중복은 ON CONFLICT로 제외)
+  AND (p ? 'resumeAt' OR s.status = 'paused')
+ON CONFLICT DO NOTHING;
+
+ALTER TABLE running_sessions DROP COLUMN IF EXISTS pause_history;
+
+COMMIT;
@@ -0,0 +1,4 @@
+-- 낙관적 잠금용 버전 (상태 전이 / 완료 / 재계산 시 증가)
+-- ddl-auto: validate 이므로 배포 전에 수동으로 적용할 것
+ALTER TABLE running_sessions
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,79 @@
+package com.aidredaline.backend.domain.runningsession.analysis;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 고도 평활 + 히스테리시스 누적
+ * - 평지 흔들림은 거의 0, 꾸준한 오르막은 총량 유지, 불감대 안에 남은 마지막 변화도 총량에 포함
+ */
+class ElevationProcessorTest {
+
+    @Test
+    void flatNoisyProfileStaysNearZero() {
+        ElevationProcessor elevation = new ElevationProcessor();
+        Random random = new Random(42);
+        for (int i = 0; i < 3_600; i++) {
+            elevation.accept(50 + (random.nextDouble() - 0.5) * 4);   // ±2m 흔들림
+        }
+
+        assertThat(elevation.ascent()).isZero();
+        assertThat(elevation.descent()).isZero();
+        // 마지막 남은 변화만 더해지므로 불감대(3m)를 넘지 않음
+        assertThat(elevation.totalAscent() + elevation.totalDescent()).isLessThan(3.0);
+    }
+
+    @Test
+    void steadyClimbKeepsTotal() {
+        ElevationProcessor elevation = new ElevationProcessor();
+        for (int i = 0; i <= 200; i++) {
+            elevation.accept(100 + i * 0.5);   // 100m → 200m
+        }
+        // 평활 지연이 사라지도록 정상에서 잠시 머묾
+        for (int i = 0; i < 50; i++) {
+            elevation.accept(200);
+        }
+
+        assertThat(elevation.totalAscent()).isCloseTo(100, within(1e-3));
+        assertThat(elevation.totalDescent()).isZero();
+        assertThat(elevation.totalAscent() - elevation.ascent()).isLessThan(3.0);
+    }
+
+    @Test
+    void climbInsideBandIsFlushedAtEnd() {
+        ElevationProcessor elevation = new ElevationProcessor();
+        elevation.accept(10);
+        for (int i = 0; i < 50; i++) {
+            elevation.accept(12);   // 불감대(3m) 미만 상승
+        }
+
+        assertThat(elevation.ascent()).isZero();
+        assertThat(elevation.totalAscent()).isCloseTo(2, within(1e-3));
+        assertThat(elevation.totalDescent()).isZero();
+
+        // 확정 전에 기준 아래로 내려가면 남은 변화는 하강으로 잡힘 (기준 고도 대비 순변화)
+        for (int i = 0; i < 50; i++) {
+            elevation.accept(9);
+        }
+        assertThat(elevation.totalAscent()).isZero();
+        assertThat(elevation.totalDescent()).isCloseTo(1, within(1e-3));
+        assertThat(elevation.level()).isCloseTo(9, within(1e-3));
+    }
+
+    @Test
+    void missingAltitudeIsIgnored() {
+        ElevationProcessor elevation = new ElevationProcessor();
+        for (int i = 0; i < 10; i++) {
+            elevation.accept(Double.NaN);
+        }
+
+        assertThat(elevation.hasData()).isFalse();
+        assertThat(elevation.level()).isNaN();
+        assertThat(elevation.totalAscent()).isZero();
+        assertThat(elevation.totalDescent()).isZero();
+    }
+}
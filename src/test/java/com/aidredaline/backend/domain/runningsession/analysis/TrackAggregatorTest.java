@@ -0,0 +1,86 @@
+package com.aidredaline.backend.domain.runningsession.analysis;
+
+import com.aidredaline.backend.domain.runningsession.dto.AnalysisRes;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 단일 패스 분석 (split 고도 / 경사 보정 페이스)
+ */
+class TrackAggregatorTest {
+
+    private static final double LAT = 33.4996;
+    private static final double LNG = 126.5312;
+    private static final long T0 = 1_700_000_000_000L;
+    private static final double METERS_PER_DEGREE_LAT = Math.toRadians(1) * 6_371_000;
+
+    @Test
+    void trackWithoutAltitudeHasNoElevationFields() {
+        TrackAggregator aggregator = run(500, Double.NaN, 0);
+
+        AnalysisRes analysis = aggregator.toAnalysis(1, null);
+
+        assertThat(analysis.splits()).hasSize(2);
+        assertThat(analysis.totalAscent()).isNull();
+        assertThat(analysis.totalDescent()).isNull();
+        for (AnalysisRes.KmSplit split : analysis.splits()) {
+            assertThat(split.elevationGain()).isNull();
+            assertThat(split.elevationLoss()).isNull();
+            assertThat(split.grade()).isNull();
+            assertThat(split.gradeAdjustedPace()).isNull();
+        }
+    }
+
+    @Test
+    void splitGainsAddUpToTotalAscent() {
+        // 1Hz, 3m/s 북쪽으로 약 1.5km, 포인트마다 0.1m 상승 (경사 약 3.3%)
+        TrackAggregator aggregator = run(500, 20, 0.1);
+
+        AnalysisRes analysis = aggregator.toAnalysis(1, null);
+
+        assertThat(analysis.splits()).hasSize(2);
+        assertThat(analysis.totalAscent().doubleValue()).isCloseTo(49.9, within(0.5));
+        assertThat(analysis.totalDescent()).isEqualByComparingTo("0");
+        double splitGains = analysis.splits().stream()
+                .mapToDouble(split -> split.elevationGain().doubleValue())
+                .sum();
+        assertThat(splitGains).isCloseTo(analysis.totalAscent().doubleValue(), within(0.2));
+        assertThat(analysis.splits().get(0).grade().doubleValue()).isCloseTo(3.3, within(0.2));
+        // 오르막 split의 보정 페이스는 실제 페이스보다 빠름
+        AnalysisRes.KmSplit first = analysis.splits().get(0);
+        assertThat(first.gradeAdjustedPace()).isLessThan(first.segmentPace());
+
+        // 결과 조회는 상태를 바꾸지 않음 (진행 중 세션에서 여러 번 조회)
+        assertThat(aggregator.toAnalysis(1, null)).isEqualTo(analysis);
+    }
+
+    @Test
+    void gradeAdjustedPaceIsClampedToModelRange() {
+        BigDecimal pace = new BigDecimal("6.00");
+
+        assertThat(TrackAggregator.gradeAdjustedPace(pace, 0)).isEqualByComparingTo("6.00");
+        // 오르막은 평지 환산 시 더 빠르고, 완만한 내리막은 더 느림
+        assertThat(TrackAggregator.gradeAdjustedPace(pace, 0.1)).isEqualByComparingTo("3.62");
+        assertThat(TrackAggregator.gradeAdjustedPace(pace, -0.1)).isGreaterThan(pace);
+        // 모델 범위(±45%) 밖은 경계값으로
+        assertThat(TrackAggregator.gradeAdjustedPace(pace, 0.8))
+                .isEqualByComparingTo(TrackAggregator.gradeAdjustedPace(pace, 0.45));
+        assertThat(TrackAggregator.gradeAdjustedPace(pace, -0.9))
+                .isEqualByComparingTo(TrackAggregator.gradeAdjustedPace(pace, -0.45));
+        assertThat(TrackAggregator.gradeAdjustedPace(BigDecimal.ZERO, 0.1)).isEqualByComparingTo("0");
+    }
+
+    // 1Hz, 3m/s로 북쪽 직선 이동, 포인트마다 climbPerPoint 만큼 고도 변화
+    private static TrackAggregator run(int points, double startAltitude, double climbPerPoint) {
+        TrackAggregator aggregator = new TrackAggregator();
+        for (int i = 0; i < points; i++) {
+            aggregator.accept(LAT + i * 3 / METERS_PER_DEGREE_LAT, LNG, T0 + i * 1_000L,
+                    3.0, startAltitude + i * climbPerPoint, 5.0);
+        }
+        return aggregator;
+    }
+}
@@ -0,0 +1,108 @@
+package com.aidredaline.backend.domain.runningsession.archive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 보관 압축 형식 왕복 (원본 행은 이 형식으로 저장된 뒤 삭제되므로 손실 범위를 고정)
+ * - 위/경도 1e-7도, 속도/고도/정확도 소수점 2자리, 기록 시간은 ms 그대로
+ * - 값이 없는(NaN) 컬럼은 NaN으로 복원
+ */
+class TrackArchiveCodecTest {
+
+    private static final long T0 = 1_700_000_000_000L;
+
+    @Test
+    void roundTripKeepsDocumentedPrecision() {
+        Random random = new Random(42);
+        List<double[]> points = new ArrayList<>();
+        double lat = 33.4996;
+        double lng = 126.5312;
+        long millis = T0;
+        for (int i = 0; i < 5_000; i++) {
+            lat += (random.nextDouble() - 0.5) * 0.0001;
+            lng += (random.nextDouble() - 0.5) * 0.0001;
+            millis += 500 + random.nextInt(1_500);
+            points.add(new double[]{
+                    lat,
+                    lng,
+                    millis,
+                    i % 7 == 0 ? Double.NaN : random.nextDouble() * 6,
+                    i % 11 == 0 ? Double.NaN : -20 + random.nextDouble() * 200,   // 해수면 아래 포함
+                    i % 13 == 0 ? Double.NaN : random.nextDouble() * 30
+            });
+        }
+
+        List<double[]> decoded = roundTrip(points);
+
+        assertThat(decoded).hasSize(points.size());
+        for (int i = 0; i < points.size(); i++) {
+            double[] expected = points.get(i);
+            double[] actual = decoded.get(i);
+            assertThat(actual[0]).isCloseTo(expected[0], within(0.5e-7 + 1e-12));
+            assertThat(actual[1]).isCloseTo(expected[1], within(0.5e-7 + 1e-12));
+            assertThat((long) actual[2]).isEqualTo((long) expected[2]);
+            for (int c = 3; c < 6; c++) {
+                if (Double.isNaN(expected[c])) {
+                    assertThat(actual[c]).isNaN();
+                } else {
+                    assertThat(actual[c]).isCloseTo(expected[c], within(0.005 + 1e-9));
+                }
+            }
+        }
+    }
+
+    @Test
+    void emptyTrack() {
+        TrackArchiveCodec.Writer writer = TrackArchiveCodec.writer();
+
+        byte[] data = writer.toByteArray();
+        List<double[]> decoded = new ArrayList<>();
+        TrackArchiveCodec.decode(data, (lat, lng, millis, speed, altitude, accuracy) ->
+                decoded.add(new double[]{lat, lng, millis}));
+
+        assertThat(writer.count()).isZero();
+        assertThat(decoded).isEmpty();
+    }
+
+    @Test
+    void singlePoint() {
+        List<double[]> decoded = roundTrip(List.<double[]>of(
+                new double[]{-33.8688197, 151.2092955, T0, 3.25, Double.NaN, 4.5}));
+
+        assertThat(decoded).hasSize(1);
+        assertThat(decoded.get(0)[0]).isCloseTo(-33.8688197, within(1e-9));
+        assertThat(decoded.get(0)[1]).isCloseTo(151.2092955, within(1e-9));
+        assertThat((long) decoded.get(0)[2]).isEqualTo(T0);
+        assertThat(decoded.get(0)[3]).isEqualTo(3.25);
+        assertThat(decoded.get(0)[4]).isNaN();
+        assertThat(decoded.get(0)[5]).isEqualTo(4.5);
+    }
+
+    @Test
+    void rejectsCorruptedData() {
+        assertThatThrownBy(() -> TrackArchiveCodec.decode(new byte[]{1, 2, 3}, (a, b, c, d, e, f) -> { }))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    // [lat, lng, recordedAtMillis, speed, altitude, accuracy]
+    private static List<double[]> roundTrip(List<double[]> points) {
+        TrackArchiveCodec.Writer writer = TrackArchiveCodec.writer();
+        for (double[] p : points) {
+            writer.accept(p[0], p[1], (long) p[2], p[3], p[4], p[5]);
+        }
+        assertThat(writer.count()).isEqualTo(points.size());
+
+        List<double[]> decoded = new ArrayList<>();
+        TrackArchiveCodec.decode(writer.toByteArray(), (lat, lng, millis, speed, altitude, accuracy) ->
+                decoded.add(new double[]{lat, lng, millis, speed, altitude, accuracy}));
+        return decoded;
+    }
+}
@@ -0,0 +1,72 @@
+package com.aidredaline.backend.domain.runningsession.geo;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.PrecisionModel;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Encoded Polyline 인코딩/디코딩
+ * - Google 문서 예제와 같은 문자열을 만드는지
+ * - 인코딩 → 디코딩 결과가 소수점 5자리 반올림 값과 같은지 (음수 좌표 / 작은 이동 포함)
+ */
+class PolylineCodecTest {
+
+    private final GeometryFactory gf = new GeometryFactory(new PrecisionModel(), 4326);
+
+    @Test
+    void encodesReferenceExample() {
+        LineString line = line(
+                38.5, -120.2,
+                40.7, -120.95,
+                43.252, -126.453);
+
+        assertThat(PolylineCodec.encode(line)).isEqualTo("_p~iF~ps|U_ulLnnqC_mqNvxq`@");
+    }
+
+    @Test
+    void decodeReversesEncode() {
+        Random random = new Random(42);
+        double[] coords = new double[2000];
+        double lat = 33.4996;
+        double lng = 126.5312;
+        for (int i = 0; i < coords.length; i += 2) {
+            lat += (random.nextDouble() - 0.5) * 0.0002;
+            lng += (random.nextDouble() - 0.5) * 0.0002;
+            coords[i] = i % 400 == 0 ? -lat : lat;
+            coords[i + 1] = i % 600 == 0 ? -lng : lng;
+        }
+        LineString line = line(coords);
+
+        List<double[]> decoded = PolylineCodec.decode(PolylineCodec.encode(line));
+
+        assertThat(decoded).hasSize(line.getNumPoints());
+        for (int i = 0; i < decoded.size(); i++) {
+            Coordinate c = line.getCoordinateN(i);
+            assertThat(decoded.get(i)[0]).isCloseTo(Math.round(c.getY() * 1e5) / 1e5, within(1e-9));
+            assertThat(decoded.get(i)[1]).isCloseTo(Math.round(c.getX() * 1e5) / 1e5, within(1e-9));
+        }
+    }
+
+    @Test
+    void emptyLineEncodesToEmptyString() {
+        assertThat(PolylineCodec.encode(null)).isEmpty();
+        assertThat(PolylineCodec.decode("")).isEmpty();
+    }
+
+    // (lat, lng) 쌍 → JTS LineString (x=lng, y=lat)
+    private LineString line(double... latLng) {
+        Coordinate[] coordinates = new Coordinate[latLng.length / 2];
+        for (int i = 0; i < coordinates.length; i++) {
+            coordinates[i] = new Coordinate(latLng[2 * i + 1], latLng[2 * i]);
+        }
+        return gf.createLineString(coordinates);
+    }
+}
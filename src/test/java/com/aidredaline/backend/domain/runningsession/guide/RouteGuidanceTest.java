@@ -0,0 +1,256 @@
+package com.aidredaline.backend.domain.runningsession.guide;
+
+import com.aidredaline.backend.domain.guidance.dto.GuidancePointDto;
+import com.aidredaline.backend.domain.guidance.service.VoiceGuidanceService;
+import com.aidredaline.backend.domain.runningsession.dto.GuidanceEventRes;
+import com.aidredaline.backend.domain.runningsession.entity.SessionStatus;
+import com.aidredaline.backend.domain.runningsession.geo.TrackMath;
+import com.aidredaline.backend.domain.runningsession.live.ActiveSession;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 서버 측 경로 안내 (설정 기본값 기준)
+ * - 경로 이탈 히스테리시스: 30m 밖 3회 연속 → OFF_ROUTE 1회, 20m 이내 2회 연속 → 복귀
+ * - 턴 안내 커서: 각 안내는 트리거 위치 순으로 최대 1회, 30m 넘게 지나친 안내는 버림
+ * - 경로: 시작점에서 북쪽으로 1000m (100m 간격 꼭짓점)
+ */
+@ExtendWith(MockitoExtension.class)
+class RouteGuidanceTest {
+
+    private static final int ROUTE_ID = 10;
+    private static final double LAT = 33.4996;
+    private static final double LNG = 126.5312;
+
+    // RouteIndex 투영과 같은 기준 (등장방형, 경로 시작점 기준)
+    private static final double METERS_PER_DEGREE = TrackMath.EARTH_RADIUS_M * Math.PI / 180;
+    private static final double METERS_PER_DEGREE_LNG = METERS_PER_DEGREE * Math.cos(Math.toRadians(LAT));
+
+    @Mock
+    private RouteIndexCache routeIndexCache;
+
+    @Mock
+    private VoiceGuidanceService voiceGuidanceService;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<GuidanceEventRes> events = new ArrayList<>();
+    private RouteGuidance guidance;
+
+    @BeforeEach
+    void setUp() {
+        Coordinate[] coordinates = new Coordinate[11];
+        for (int i = 0; i < coordinates.length; i++) {
+            coordinates[i] = new Coordinate(lng(0), lat(i * 100));
+        }
+        RouteIndex route = RouteIndex.of(new GeometryFactory(new PrecisionModel(), 4326).createLineString(coordinates));
+        // 안내를 끈 경우에는 조회하지 않음
+        lenient().when(routeIndexCache.get(ROUTE_ID)).thenReturn(Optional.of(route));
+
+        guidance = new RouteGuidance(routeIndexCache, voiceGuidanceService, registry);
+        ReflectionTestUtils.setField(guidance, "enabled", true);
+        ReflectionTestUtils.setField(guidance, "offRouteDistanceM", 30.0);
+        ReflectionTestUtils.setField(guidance, "onRouteDistanceM", 20.0);
+        ReflectionTestUtils.setField(guidance, "offRouteFixes", 3);
+        ReflectionTestUtils.setField(guidance, "onRouteFixes", 2);
+        ReflectionTestUtils.setField(guidance, "lookaheadM", 150.0);
+        ReflectionTestUtils.setField(guidance, "completeDistanceM", 30.0);
+        ReflectionTestUtils.setField(guidance, "turnPassedM", 30.0);
+    }
+
+    @Test
+    void offRouteNeedsConsecutiveFarFixes() {
+        ActiveSession active = session();
+        for (int north = 0; north <= 30; north += 10) fix(active, north, 0);
+
+        // 튀는 포인트 1개 → 상태 유지
+        assertThat(fix(active, 40, 50).offRoute()).isFalse();
+        fix(active, 50, 0);
+        assertThat(fix(active, 60, 50).offRoute()).isFalse();
+        assertThat(fix(active, 70, 50).offRoute()).isFalse();
+        assertThat(count("off_route")).isZero();
+
+        // 3번째 연속 → OFF_ROUTE 정확히 1회
+        RouteGuidance.Result result = fix(active, 80, 50);
+        assertThat(result.offRoute()).isTrue();
+        assertThat(result.distanceFromRoute()).isCloseTo(50, within(1e-6));
+        assertThat(events).singleElement().satisfies(e -> {
+            assertThat(e.type()).isEqualTo("off_route");
+            assertThat(e.guidanceId()).isEqualTo("OFF_ROUTE");
+            assertThat(e.distanceFromRoute()).isEqualByComparingTo("50.0");
+        });
+
+        // 이탈 중에는 더 먼 포인트가 계속 와도 다시 안내하지 않음
+        for (int north = 90; north <= 130; north += 10) {
+            assertThat(fix(active, north, 50).offRoute()).isTrue();
+        }
+        assertThat(count("off_route")).isEqualTo(1);
+        assertThat(registry.get("guidance.off_route").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void onRouteNeedsConsecutiveNearFixes() {
+        ActiveSession active = session();
+        for (int north = 0; north <= 30; north += 10) fix(active, north, 0);
+        for (int north = 40; north <= 60; north += 10) fix(active, north, 50);
+        assertThat(count("off_route")).isEqualTo(1);
+
+        // 가까운 포인트 1개 뒤 20~30m 사이 포인트 → 연속이 끊겨 복귀하지 않음
+        assertThat(fix(active, 70, 5).offRoute()).isTrue();
+        assertThat(fix(active, 80, 25).offRoute()).isTrue();
+        assertThat(fix(active, 90, 5).offRoute()).isTrue();
+        assertThat(count("on_route")).isZero();
+
+        // 2번째 연속 → 복귀 1회
+        assertThat(fix(active, 100, 5).offRoute()).isFalse();
+        assertThat(count("on_route")).isEqualTo(1);
+        assertThat(fix(active, 110, 0).offRoute()).isFalse();
+        assertThat(count("on_route")).isEqualTo(1);
+
+        // 다시 벗어나면 새 이탈로 다시 1회
+        for (int north = 120; north <= 140; north += 10) fix(active, north, 50);
+        assertThat(count("off_route")).isEqualTo(2);
+        assertThat(registry.get("guidance.off_route").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void disabledDoesNothing() {
+        ReflectionTestUtils.setField(guidance, "enabled", false);
+        ActiveSession active = session();
+
+        for (int north = 0; north <= 50; north += 10) {
+            assertThat(guidance.onFix(active, lat(north), lng(50))).isSameAs(RouteGuidance.NONE);
+        }
+        assertThat(guidance.completionRate(active)).isNull();
+    }
+
+    @Test
+    void turnCuesFireOnceInTriggerOrder() {
+        ActiveSession active = session(true);
+        guidance.prepareTurnCues(active, turnPoints());
+
+        for (int north = 0; north <= 1000; north += 10) fix(active, north, 0);
+        // 끝까지 간 뒤 되돌아와도 다시 안내하지 않음
+        for (int north = 990; north >= 0; north -= 10) fix(active, north, 0);
+
+        List<GuidanceEventRes> turns = turns();
+        assertThat(turns).extracting(GuidanceEventRes::guidanceId)
+                .containsExactly("TURN_RIGHT_15", "TURN_LEFT_50", "TURN_LEFT_15", "U_TURN_15");
+        // 트리거 위치를 처음 지난 포인트(10m 간격)에서 안내
+        assertThat(turns).extracting(GuidanceEventRes::distanceToTurn)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("10.0"), new BigDecimal("40.0"),
+                        new BigDecimal("10.0"), new BigDecimal("10.0"));
+        assertThat(turnCount("fired")).isEqualTo(4);
+        assertThat(turnCount("skipped")).isZero();
+    }
+
+    @Test
+    void fixJumpingOverTriggersFiresEachCueOnce() {
+        ActiveSession active = session(true);
+        guidance.prepareTurnCues(active, turnPoints());
+
+        for (int north = 0; north <= 100; north += 10) fix(active, north, 0);
+        // 100m → 425m: 트리거 185 / 355 / 405m를 한 번에 지남
+        // - 200m 안내는 30m 넘게 지나쳤으므로 버림, 400 / 420m 안내는 순서대로 1회씩
+        fix(active, 425, 0);
+        assertThat(turns()).extracting(GuidanceEventRes::guidanceId).containsExactly("TURN_LEFT_50", "TURN_LEFT_15");
+
+        for (int north = 430; north <= 1000; north += 10) fix(active, north, 0);
+
+        assertThat(turns()).extracting(GuidanceEventRes::guidanceId)
+                .containsExactly("TURN_LEFT_50", "TURN_LEFT_15", "U_TURN_15");
+        assertThat(turnCount("fired")).isEqualTo(3);
+        assertThat(turnCount("skipped")).isEqualTo(1);
+    }
+
+    @Test
+    void restoredSessionLoadsTurnCuesOnce() {
+        // 레지스트리에서 다시 만든 세션: start 때 준비한 안내가 없고, 경로 중간(250m)에서 이어 달림
+        when(voiceGuidanceService.getGuidancePoints(ROUTE_ID)).thenReturn(turnPoints());
+        ActiveSession active = session(true);
+
+        for (int north = 250; north <= 1000; north += 10) fix(active, north, 0);
+
+        assertThat(turns()).extracting(GuidanceEventRes::guidanceId)
+                .containsExactly("TURN_LEFT_50", "TURN_LEFT_15", "U_TURN_15");
+        assertThat(turnCount("skipped")).isEqualTo(1);
+        verify(voiceGuidanceService, times(1)).getGuidancePoints(ROUTE_ID);
+    }
+
+    private ActiveSession session() {
+        return session(false);
+    }
+
+    private ActiveSession session(boolean serverGuidance) {
+        return new ActiveSession(1, 1, ROUTE_ID, Instant.now(), SessionStatus.IN_PROGRESS, serverGuidance);
+    }
+
+    // 트리거 위치: 185m(기본 15m) / 355m / 405m / 585m, 일부러 섞어서 전달
+    private static List<GuidancePointDto> turnPoints() {
+        return List.of(
+                turnPoint(3, 400, 45.0, "TURN_LEFT_50"),
+                turnPoint(5, 600, 15.0, "U_TURN_15"),
+                turnPoint(1, 200, null, "TURN_RIGHT_15"),
+                turnPoint(4, 420, 15.0, "TURN_LEFT_15"),
+                // 위치가 없는 지점은 제외
+                GuidancePointDto.builder().sequence(2).guidanceId("GO_STRAIGHT_NEXT").build());
+    }
+
+    private static GuidancePointDto turnPoint(int sequence, double at, Double triggerDistance, String guidanceId) {
+        return GuidancePointDto.builder()
+                .sequence(sequence)
+                .distanceFromStart(BigDecimal.valueOf(at))
+                .triggerDistance(triggerDistance)
+                .guidanceId(guidanceId)
+                .type("turn")
+                .build();
+    }
+
+    private List<GuidanceEventRes> turns() {
+        return events.stream().filter(e -> e.type().equals("turn")).toList();
+    }
+
+    private double turnCount(String result) {
+        return registry.get("guidance.turn").tag("result", result).counter().count();
+    }
+
+    // 시작점 기준 (북쪽 m, 동쪽 m) 위치 포인트 1개, 새 이벤트는 events에 모음
+    private RouteGuidance.Result fix(ActiveSession active, double metersNorth, double metersEast) {
+        RouteGuidance.Result result = guidance.onFix(active, lat(metersNorth), lng(metersEast));
+        events.addAll(result.events());
+        return result;
+    }
+
+    private long count(String type) {
+        return events.stream().filter(e -> e.type().equals(type)).count();
+    }
+
+    private static double lat(double metersNorth) {
+        return LAT + metersNorth / METERS_PER_DEGREE;
+    }
+
+    private static double lng(double metersEast) {
+        return LNG + metersEast / METERS_PER_DEGREE_LNG;
+    }
+}
@@ -0,0 +1,105 @@
+package com.aidredaline.backend.domain.runningsession.guide;
+
+import com.aidredaline.backend.domain.runningsession.geo.TrackMath;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.PrecisionModel;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 경로 공간 인덱스 (STRtree 최근접 구간)
+ * - 알려진 L자 경로에서 경로까지 거리 / 선형 참조 위치가 평면 계산값과 같은지
+ * - 구불구불한 경로에서 STRtree 결과가 전체 구간 완전 탐색과 같은지
+ */
+class RouteIndexTest {
+
+    private static final double LAT = 33.4996;
+    private static final double LNG = 126.5312;
+
+    // RouteIndex 투영과 같은 기준 (등장방형, 경로 시작점 기준)
+    private static final double METERS_PER_DEGREE = TrackMath.EARTH_RADIUS_M * Math.PI / 180;
+    private static final double METERS_PER_DEGREE_LNG = METERS_PER_DEGREE * Math.cos(Math.toRadians(LAT));
+
+    private final GeometryFactory gf = new GeometryFactory(new PrecisionModel(), 4326);
+
+    @Test
+    void nearestOnKnownPolyline() {
+        // 북쪽으로 1000m → 동쪽으로 500m
+        RouteIndex index = RouteIndex.of(line(0, 0, 1000, 0, 1000, 500));
+
+        assertThat(index.segmentCount()).isEqualTo(2);
+        assertThat(index.length()).isCloseTo(1500, within(1e-6));
+
+        assertMatch(index.nearest(lat(500), lng(20)), 20, 500, 0);
+        assertMatch(index.nearest(lat(1030), lng(250)), 30, 1250, 1);
+        // 모서리 안쪽: 첫 구간(80m)이 둘째 구간(100m)보다 가까움
+        assertMatch(index.nearest(lat(900), lng(80)), 80, 900, 0);
+        // 시작점 앞 / 끝점 뒤는 양 끝점까지 거리
+        assertMatch(index.nearest(lat(-40), lng(0)), 40, 0, 0);
+        assertMatch(index.nearest(lat(1000), lng(600)), 100, 1500, 1);
+    }
+
+    @Test
+    void nearestMatchesBruteForce() {
+        Random random = new Random(7);
+        double[] coords = new double[2 * 300];
+        double north = 0;
+        double east = 0;
+        for (int i = 2; i < coords.length; i += 2) {
+            double heading = random.nextDouble() * 2 * Math.PI;
+            double step = 20 + random.nextDouble() * 60;
+            north += Math.cos(heading) * step;
+            east += Math.sin(heading) * step;
+            coords[i] = north;
+            coords[i + 1] = east;
+        }
+        RouteIndex index = RouteIndex.of(line(coords));
+
+        for (int i = 0; i < 2000; i++) {
+            double qNorth = (random.nextDouble() - 0.5) * 3000;
+            double qEast = (random.nextDouble() - 0.5) * 3000;
+            Coordinate p = index.project(lat(qNorth), lng(qEast));
+
+            double expected = Double.POSITIVE_INFINITY;
+            for (int s = 0; s < index.segmentCount(); s++) {
+                expected = Math.min(expected, index.segment(s).line().distance(p));
+            }
+            assertThat(index.nearest(lat(qNorth), lng(qEast)).distance()).isCloseTo(expected, within(1e-9));
+        }
+    }
+
+    @Test
+    void rejectsDegenerateRoute() {
+        assertThat(RouteIndex.of(null)).isNull();
+        assertThat(RouteIndex.of(gf.createLineString(new Coordinate[0]))).isNull();
+    }
+
+    private static void assertMatch(RouteIndex.Match match, double distance, double along, int segment) {
+        assertThat(match.distance()).isCloseTo(distance, within(1e-6));
+        assertThat(match.alongLength()).isCloseTo(along, within(1e-6));
+        assertThat(match.segmentIndex()).isEqualTo(segment);
+    }
+
+    private static double lat(double metersNorth) {
+        return LAT + metersNorth / METERS_PER_DEGREE;
+    }
+
+    private static double lng(double metersEast) {
+        return LNG + metersEast / METERS_PER_DEGREE_LNG;
+    }
+
+    // 시작점 기준 (북쪽 m, 동쪽 m) 쌍 → JTS LineString (x=lng, y=lat)
+    private LineString line(double... northEast) {
+        Coordinate[] coordinates = new Coordinate[northEast.length / 2];
+        for (int i = 0; i < coordinates.length; i++) {
+            coordinates[i] = new Coordinate(lng(northEast[2 * i + 1]), lat(northEast[2 * i]));
+        }
+        return gf.createLineString(coordinates);
+    }
+}
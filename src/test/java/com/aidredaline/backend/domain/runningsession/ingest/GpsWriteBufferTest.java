@@ -0,0 +1,95 @@
+package com.aidredaline.backend.domain.runningsession.ingest;
+
+import com.aidredaline.backend.domain.runningsession.entity.GpsTrackingPoint;
+import com.aidredaline.backend.domain.runningsession.repository.GpsTrackingPointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * GPS write-behind 버퍼 (flush-size 30, 최대 재시도 3회)
+ * - 임계값을 넘은 뒤 append가 이어져도 flush 작업은 예약된 것 하나만
+ * - 재시도 횟수는 연속 실패 기준 (성공하면 초기화)
+ */
+@ExtendWith(MockitoExtension.class)
+class GpsWriteBufferTest {
+
+    private static final int SESSION_ID = 1;
+
+    @Mock
+    private GpsTrackingPointRepository gpsRepo;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<Runnable> tasks = new ArrayList<>();
+    private GpsWriteBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new GpsWriteBuffer(gpsRepo, transactionManager, tasks::add, registry);
+        ReflectionTestUtils.setField(buffer, "flushSize", 30);
+        ReflectionTestUtils.setField(buffer, "maxDepth", 50_000);
+        ReflectionTestUtils.setField(buffer, "maxFlushAttempts", 3);
+    }
+
+    @Test
+    void schedulesOneFlushUntilItRuns() {
+        for (int i = 0; i < 100; i++) buffer.append(point());
+        assertThat(tasks).hasSize(1);
+
+        tasks.get(0).run();
+        verify(gpsRepo).insertBatch(argThat(points -> points.size() == 100));
+
+        // 예약된 flush가 실행된 뒤에는 다시 예약
+        for (int i = 0; i < 30; i++) buffer.append(point());
+        assertThat(tasks).hasSize(2);
+    }
+
+    @Test
+    void failedAttemptsResetAfterSuccessfulFlush() {
+        RuntimeException failure = new RuntimeException("db down");
+        doThrow(failure).doThrow(failure).doNothing()
+                .doThrow(failure).doThrow(failure).doNothing()
+                .when(gpsRepo).insertBatch(any());
+
+        buffer.append(point());
+        assertThatThrownBy(() -> buffer.flush(SESSION_ID)).isSameAs(failure);
+        assertThatThrownBy(() -> buffer.flush(SESSION_ID)).isSameAs(failure);
+        buffer.flush(SESSION_ID);
+
+        // 앞의 실패 2회는 성공으로 초기화 → 다시 2회 실패해도 폐기하지 않음
+        buffer.append(point());
+        assertThatThrownBy(() -> buffer.flush(SESSION_ID)).isSameAs(failure);
+        assertThatThrownBy(() -> buffer.flush(SESSION_ID)).isSameAs(failure);
+        buffer.flush(SESSION_ID);
+
+        verify(gpsRepo, times(6)).insertBatch(any());
+        assertThat(registry.get("gps.buffer.dropped").counter().count()).isZero();
+        assertThat(registry.get("gps.buffer.depth").gauge().value()).isZero();
+    }
+
+    private static GpsTrackingPoint point() {
+        GpsTrackingPoint point = new GpsTrackingPoint();
+        point.setSessionId(SESSION_ID);
+        return point;
+    }
+}
@@ -0,0 +1,165 @@
+package com.aidredaline.backend.domain.runningsession.ingest.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 수집 필터별 통과/거부 경계값 (설정 기본값 기준)
+ * - 정확도 30m, 최대 속도 12m/s, 정지 반경 3m / heartbeat 15초, Kalman 프로세스 잡음 3m/s
+ */
+class GpsFixFilterTest {
+
+    private static final double LAT = 33.4996;
+    private static final double LNG = 126.5312;
+    private static final long T0 = 1_700_000_000_000L;
+
+    // 위도 1도의 거리 (TrackMath.haversine의 지구 반지름 기준)
+    private static final double METERS_PER_DEGREE_LAT = Math.toRadians(1) * 6_371_000;
+
+    @Test
+    void accuracyFilterRejectsOnlyAboveThreshold() {
+        AccuracyFilter filter = accuracyFilter();
+        FilterState state = new FilterState();
+
+        assertThat(filter.apply(fix(0, 0, 30.0), state)).isNotNull();
+        assertThat(filter.apply(fix(0, 0, 30.1), state)).isNull();
+        // 정확도를 보고하지 않는 단말은 통과
+        assertThat(filter.apply(fix(0, 0, Double.NaN), state)).isNotNull();
+    }
+
+    @Test
+    void speedFilterRejectsJumps() {
+        SpeedPlausibilityFilter filter = speedFilter();
+        FilterState state = new FilterState();
+
+        // 직전 포인트가 없으면 통과
+        assertThat(filter.apply(fix(0, 0, Double.NaN), state)).isNotNull();
+
+        state.lastAccepted = fix(0, 0, Double.NaN);
+        assertThat(filter.apply(fix(1_000, 11.5, Double.NaN), state)).isNotNull();
+        assertThat(filter.apply(fix(1_000, 12.5, Double.NaN), state)).isNull();
+        assertThat(filter.apply(fix(10_000, 115, Double.NaN), state)).isNotNull();
+        // 오차 반경만큼은 허용
+        assertThat(filter.apply(fix(1_000, 20, 10.0), state)).isNotNull();
+        assertThat(filter.apply(fix(1_000, 25, 10.0), state)).isNull();
+        // 같은 시각 / 과거 시각은 속도를 알 수 없으므로 거부
+        assertThat(filter.apply(fix(0, 1, Double.NaN), state)).isNull();
+        assertThat(filter.apply(fix(-1_000, 1, Double.NaN), state)).isNull();
+    }
+
+    @Test
+    void stationaryFilterRejectsSmallMovesUntilHeartbeat() {
+        StationaryFilter filter = stationaryFilter();
+        FilterState state = new FilterState();
+
+        assertThat(filter.apply(fix(0, 0, Double.NaN), state)).isNotNull();
+
+        state.lastAccepted = fix(0, 0, Double.NaN);
+        assertThat(filter.apply(fix(1_000, 2.9, Double.NaN), state)).isNull();
+        assertThat(filter.apply(fix(1_000, 3.1, Double.NaN), state)).isNotNull();
+        assertThat(filter.apply(fix(14_999, 0, Double.NaN), state)).isNull();
+        assertThat(filter.apply(fix(15_000, 0, Double.NaN), state)).isNotNull();
+    }
+
+    @Test
+    void stationaryHeartbeatThroughPipeline() {
+        GpsFilterPipeline pipeline = pipeline(stationaryFilter());
+        FilterState state = new FilterState();
+
+        // 1Hz로 60초 동안 제자리 → 0, 15, 30, 45초 포인트만 저장
+        int accepted = 0;
+        for (int i = 0; i < 60; i++) {
+            if (pipeline.apply(state, fix(i * 1_000L, 0, 5.0)) != null) accepted++;
+        }
+
+        assertThat(accepted).isEqualTo(4);
+        assertThat(state.lastAccepted.recordedAtMillis()).isEqualTo(T0 + 45_000);
+    }
+
+    @Test
+    void kalmanWeighsByAccuracyAndNeverRejects() {
+        KalmanSmoother filter = kalmanSmoother();
+        FilterState state = new FilterState();
+
+        // 첫 포인트는 그대로 (초기화)
+        GpsFix first = filter.apply(fix(0, 0, 10.0), state);
+        assertThat(first.lat()).isEqualTo(LAT);
+
+        // 분산 100 + 3²·1s = 109, 측정 분산 100 → gain = 109 / 209
+        GpsFix second = filter.apply(fix(1_000, 10, 10.0), state);
+        double measured = LAT + 10 / METERS_PER_DEGREE_LAT;
+        assertThat(second.lat()).isCloseTo(LAT + (measured - LAT) * 109 / 209, within(1e-12));
+        assertThat(second.lng()).isCloseTo(LNG, within(1e-12));
+        assertThat(second.recordedAtMillis()).isEqualTo(T0 + 1_000);
+
+        // 부정확한 측정은 정확한 측정보다 덜 반영
+        FilterState precise = new FilterState();
+        FilterState noisy = new FilterState();
+        filter.apply(fix(0, 0, 5.0), precise);
+        filter.apply(fix(0, 0, 5.0), noisy);
+        double preciseMove = filter.apply(fix(1_000, 100, 5.0), precise).lat() - LAT;
+        double noisyMove = filter.apply(fix(1_000, 100, 50.0), noisy).lat() - LAT;
+        assertThat(noisyMove).isPositive().isLessThan(preciseMove);
+    }
+
+    @Test
+    void pipelineUpdatesLastAcceptedOnlyOnAccept() {
+        GpsFilterPipeline pipeline = pipeline(accuracyFilter(), speedFilter(), stationaryFilter());
+        FilterState state = new FilterState();
+
+        GpsFix start = pipeline.apply(state, fix(0, 0, 5.0));
+        assertThat(state.lastAccepted).isEqualTo(start);
+
+        assertThat(pipeline.apply(state, fix(1_000, 5, 50.0))).isNull();   // 정확도
+        assertThat(pipeline.apply(state, fix(1_000, 100, 5.0))).isNull();  // 속도
+        assertThat(pipeline.apply(state, fix(1_000, 1, 5.0))).isNull();    // 정지
+        assertThat(state.lastAccepted).isEqualTo(start);
+
+        GpsFix moved = pipeline.apply(state, fix(2_000, 5, 5.0));
+        assertThat(moved).isNotNull();
+        assertThat(state.lastAccepted).isEqualTo(moved);
+    }
+
+    // T0 + offset 시각에 기준점에서 북쪽으로 meters 만큼 이동한 포인트
+    private static GpsFix fix(long offsetMillis, double metersNorth, double accuracy) {
+        return new GpsFix(LAT + metersNorth / METERS_PER_DEGREE_LAT, LNG, T0 + offsetMillis,
+                Double.NaN, Double.NaN, accuracy);
+    }
+
+    private static GpsFilterPipeline pipeline(GpsFixFilter... filters) {
+        GpsFilterPipeline pipeline = new GpsFilterPipeline(List.of(filters), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(pipeline, "enabled", true);
+        return pipeline;
+    }
+
+    private static AccuracyFilter accuracyFilter() {
+        AccuracyFilter filter = new AccuracyFilter();
+        ReflectionTestUtils.setField(filter, "maxAccuracyM", 30.0);
+        return filter;
+    }
+
+    private static SpeedPlausibilityFilter speedFilter() {
+        SpeedPlausibilityFilter filter = new SpeedPlausibilityFilter();
+        ReflectionTestUtils.setField(filter, "maxSpeedMps", 12.0);
+        return filter;
+    }
+
+    private static StationaryFilter stationaryFilter() {
+        StationaryFilter filter = new StationaryFilter();
+        ReflectionTestUtils.setField(filter, "radiusM", 3.0);
+        ReflectionTestUtils.setField(filter, "heartbeatMillis", 15_000L);
+        return filter;
+    }
+
+    private static KalmanSmoother kalmanSmoother() {
+        KalmanSmoother filter = new KalmanSmoother();
+        ReflectionTestUtils.setField(filter, "processNoiseMps", 3.0);
+        return filter;
+    }
+}
@@ -0,0 +1,157 @@
+package com.aidredaline.backend.domain.runningsession.live;
+
+import com.aidredaline.backend.domain.runningsession.entity.SessionStatus;
+import com.aidredaline.backend.domain.runningsession.ingest.filter.GpsFix;
+import com.aidredaline.backend.domain.runningsession.live.ActiveSession.RecordResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 한 세션에 여러 스레드가 동시에 일시정지/재개/트래킹/완료를 요청해도
+ * - 완료는 정확히 한 번만 성공
+ * - 완료 이후 상태/누적값이 바뀌지 않음
+ */
+class ActiveSessionConcurrencyTest {
+
+    private static final int TOGGLERS = 4;
+    private static final int TRACKERS = 4;
+    private static final int COMPLETERS = 4;
+    private static final int ITERATIONS = 20_000;
+
+    @Test
+    void hammerOneSession() throws Exception {
+        ActiveSession active = new ActiveSession(1, 1, null, Instant.now(), SessionStatus.IN_PROGRESS, false);
+        Instant recordedAt = Instant.now();
+
+        AtomicInteger pauses = new AtomicInteger();
+        AtomicInteger resumes = new AtomicInteger();
+        AtomicInteger completions = new AtomicInteger();
+        AtomicInteger acceptedFixes = new AtomicInteger();
+
+        ExecutorService pool = Executors.newFixedThreadPool(TOGGLERS + TRACKERS + COMPLETERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < TOGGLERS; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ITERATIONS; i++) {
+                        if (active.transition(SessionStatus.IN_PROGRESS, SessionStatus.PAUSED)) pauses.incrementAndGet();
+                        if (active.transition(SessionStatus.PAUSED, SessionStatus.IN_PROGRESS)) resumes.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (int t = 0; t < TRACKERS; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < ITERATIONS; i++) {
+                        // 같은 시각으로 보내 과거 포인트 제외 규칙과 무관하게 반영 여부만 검증
+                        if (active.recordFix(fix(33.5 + random.nextDouble() * 1e-3, 126.5 + random.nextDouble() * 1e-3,
+                                recordedAt, Double.NaN)) == RecordResult.RECORDED) {
+                            acceptedFixes.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (int t = 0; t < COMPLETERS; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    // 트래킹/전이가 어느 정도 진행된 뒤 완료 시도
+                    Thread.sleep(5);
+                    if (active.transition(SessionStatus.IN_PROGRESS, SessionStatus.COMPLETED)
+                            || active.transition(SessionStatus.PAUSED, SessionStatus.COMPLETED)) {
+                        completions.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> f : futures) f.get(30, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(completions.get()).isEqualTo(1);
+        assertThat(active.getStatus()).isEqualTo(SessionStatus.COMPLETED);
+        assertThat(active.isActive()).isFalse();
+
+        // 재개는 항상 직전 일시정지 뒤에만 성공 → 차이는 완료 시점에 일시정지 중이었는지(0/1)
+        assertThat(pauses.get() - resumes.get()).isBetween(0, 1);
+
+        // 누적 포인트 수 = 반영에 성공한 호출 수, 완료 이후에는 변하지 않음
+        TrackTotals totals = active.snapshot();
+        assertThat(totals.pointCount()).isEqualTo(acceptedFixes.get());
+        assertThat(active.recordFix(fix(33.5, 126.5, recordedAt.plusSeconds(1), Double.NaN))).isEqualTo(RecordResult.INACTIVE);
+        assertThat(active.snapshot()).isEqualTo(totals);
+
+        // 완료 이후 전이는 모두 실패
+        assertThat(active.transition(SessionStatus.PAUSED, SessionStatus.IN_PROGRESS)).isFalse();
+        assertThat(active.transition(SessionStatus.IN_PROGRESS, SessionStatus.PAUSED)).isFalse();
+    }
+
+    @Test
+    void forceCompleteRejectsLaterFixes() {
+        ActiveSession active = new ActiveSession(1, 1, null, Instant.now(), SessionStatus.PAUSED, false);
+        assertThat(active.recordFix(fix(33.5, 126.5, Instant.now(), 2.0))).isEqualTo(RecordResult.RECORDED);
+
+        active.forceStatus(SessionStatus.COMPLETED);
+
+        assertThat(active.recordFix(fix(33.6, 126.6, Instant.now().plusSeconds(1), 3.0))).isEqualTo(RecordResult.INACTIVE);
+        assertThat(active.snapshot().pointCount()).isEqualTo(1);
+    }
+
+    @Test
+    void outOfOrderFixesAreNotRecorded() {
+        Instant t0 = Instant.parse("2025-03-01T06:30:00Z");
+        ActiveSession active = new ActiveSession(1, 1, null, t0, SessionStatus.IN_PROGRESS, false);
+        assertThat(active.recordFix(fix(33.5, 126.5, t0.plusSeconds(10), 2.0))).isEqualTo(RecordResult.RECORDED);
+        TrackTotals totals = active.snapshot();
+
+        // 마지막 포인트보다 과거 → 누적/경로/분석 어디에도 반영하지 않음 (호출 측은 저장하지 않음)
+        assertThat(active.recordFix(fix(33.6, 126.6, t0.plusSeconds(5), 9.0))).isEqualTo(RecordResult.OUT_OF_ORDER);
+        assertThat(active.recordFixes(List.of(
+                fix(33.6, 126.6, t0.plusSeconds(9), 9.0),
+                fix(33.7, 126.7, t0.plusSeconds(20), 9.0)))).isEqualTo(RecordResult.OUT_OF_ORDER);
+        assertThat(active.snapshot()).isEqualTo(totals);
+        assertThat(active.getAggregator().toTotals().pointCount()).isEqualTo(1);
+
+        // 같은 시각은 반영 (재전송과 구분하지 않음)
+        assertThat(active.recordFix(fix(33.5, 126.5, t0.plusSeconds(10), 2.0))).isEqualTo(RecordResult.RECORDED);
+        assertThat(active.recordFixes(List.of(
+                fix(33.5001, 126.5, t0.plusSeconds(11), 2.0),
+                fix(33.5002, 126.5, t0.plusSeconds(12), 2.0)))).isEqualTo(RecordResult.RECORDED);
+        assertThat(active.snapshot().pointCount()).isEqualTo(4);
+    }
+
+    @Test
+    void illegalTransitionIsRejected() {
+        ActiveSession active = new ActiveSession(1, 1, null, Instant.now(), SessionStatus.IN_PROGRESS, false);
+
+        assertThatThrownBy(() -> active.transition(SessionStatus.COMPLETED, SessionStatus.IN_PROGRESS))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> active.transition(SessionStatus.PAUSED, SessionStatus.PAUSED))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(active.getStatus()).isEqualTo(SessionStatus.IN_PROGRESS);
+    }
+
+    private static GpsFix fix(double lat, double lng, Instant recordedAt, double speed) {
+        return new GpsFix(lat, lng, recordedAt.toEpochMilli(), speed, Double.NaN, Double.NaN);
+    }
+}
@@ -0,0 +1,66 @@
+package com.aidredaline.backend.domain.runningsession.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 완료 목록 커서 인코딩/디코딩
+ * - 마이크로초로 잘린 값이 그대로 왕복되는지
+ * - 형식이 틀리거나 범위를 벗어난 커서는 IllegalArgumentException (400)
+ */
+class SessionCursorTest {
+
+    @Test
+    void roundTripsTruncatedToMicros() {
+        Instant startTime = Instant.parse("2025-03-01T06:30:15.123456789Z");
+
+        SessionCursor cursor = SessionCursor.of(startTime, 42);
+        SessionCursor decoded = SessionCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.startTime()).isEqualTo(Instant.parse("2025-03-01T06:30:15.123456Z"));
+        assertThat(decoded.sessionId()).isEqualTo(42);
+    }
+
+    @Test
+    void sameStartTimeDiffersBySessionId() {
+        Instant startTime = Instant.parse("2025-03-01T06:30:15Z");
+
+        String first = SessionCursor.of(startTime, 7).encode();
+        String second = SessionCursor.of(startTime, 8).encode();
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(SessionCursor.decode(first).sessionId()).isEqualTo(7);
+        assertThat(SessionCursor.decode(second).sessionId()).isEqualTo(8);
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertInvalid("not*base64");
+        assertInvalid(Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[5]));
+    }
+
+    @Test
+    void rejectsOutOfRangeStartTime() {
+        assertInvalid(raw(Long.MAX_VALUE, 1));
+        assertInvalid(raw(Long.MIN_VALUE, 1));
+        assertInvalid(raw(-1, 1));
+    }
+
+    private static void assertInvalid(String cursor) {
+        assertThatThrownBy(() -> SessionCursor.decode(cursor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    private static String raw(long micros, int sessionId) {
+        byte[] bytes = ByteBuffer.allocate(Long.BYTES + Integer.BYTES).putLong(micros).putInt(sessionId).array();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
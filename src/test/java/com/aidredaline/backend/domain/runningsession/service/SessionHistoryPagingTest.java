@@ -0,0 +1,103 @@
+package com.aidredaline.backend.domain.runningsession.service;
+
+import com.aidredaline.backend.domain.runningsession.dto.SessionItemRes;
+import com.aidredaline.backend.domain.runningsession.dto.SessionSliceRes;
+import com.aidredaline.backend.domain.runningsession.entity.SessionStatus;
+import com.aidredaline.backend.domain.runningsession.repository.RunningSessionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+/**
+ * 커서 기반 완료 목록: 같은 startTime이 페이지 경계에 걸쳐도 누락/중복 없이 이어 읽는지
+ * - 저장소는 쿼리와 같은 정렬(startTime DESC, sessionId DESC) / 커서 조건으로 메모리 목록을 잘라 응답
+ */
+@ExtendWith(MockitoExtension.class)
+class SessionHistoryPagingTest {
+
+    private static final int USER_ID = 1;
+    private static final Instant T = Instant.parse("2025-03-01T06:30:15.123456Z");
+
+    @Mock
+    private RunningSessionRepository sessionRepo;
+
+    @InjectMocks
+    private RunningSessionService service;
+
+    @Test
+    void tiedStartTimesAcrossPageBoundaries() {
+        List<SessionItemRes> rows = List.of(
+                item(1, T), item(2, T), item(3, T),
+                item(4, T.plusSeconds(3600)), item(5, T.plusSeconds(3600)), item(6, T.plusSeconds(3600)),
+                item(7, T.plusSeconds(7200)));
+        stubRepository(rows);
+
+        List<Integer> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            SessionSliceRes slice = service.getHistory(USER_ID, cursor, 2);
+            slice.items().forEach(item -> seen.add(item.sessionId()));
+            assertThat(slice.hasNext()).isEqualTo(slice.nextCursor() != null);
+            cursor = slice.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(seen).containsExactly(7, 6, 5, 4, 3, 2, 1);
+        assertThat(pages).isEqualTo(4);
+    }
+
+    @Test
+    void lastFullPageHasNoCursor() {
+        stubRepository(List.of(item(1, T), item(2, T)));
+
+        SessionSliceRes slice = service.getHistory(USER_ID, null, 2);
+
+        assertThat(slice.items()).extracting(SessionItemRes::sessionId).containsExactly(2, 1);
+        assertThat(slice.hasNext()).isFalse();
+        assertThat(slice.nextCursor()).isNull();
+    }
+
+    private void stubRepository(List<SessionItemRes> rows) {
+        List<SessionItemRes> sorted = rows.stream()
+                .sorted(Comparator.comparing(SessionItemRes::startTime)
+                        .thenComparing(SessionItemRes::sessionId)
+                        .reversed())
+                .toList();
+
+        when(sessionRepo.findFirstItems(eq(USER_ID), eq(SessionStatus.COMPLETED), any(Limit.class)))
+                .thenAnswer(inv -> slice(sorted, row -> true, inv.getArgument(2)));
+        // 첫 페이지에서 끝나는 경우 호출되지 않음
+        lenient().when(sessionRepo.findItemsAfter(eq(USER_ID), eq(SessionStatus.COMPLETED),
+                        any(Instant.class), any(Integer.class), any(Limit.class)))
+                .thenAnswer(inv -> {
+                    Instant startTime = inv.getArgument(2);
+                    Integer sessionId = inv.getArgument(3);
+                    return slice(sorted, row -> row.startTime().isBefore(startTime)
+                            || (row.startTime().equals(startTime) && row.sessionId() < sessionId), inv.getArgument(4));
+                });
+    }
+
+    private static List<SessionItemRes> slice(List<SessionItemRes> sorted, Predicate<SessionItemRes> after, Limit limit) {
+        return sorted.stream().filter(after).limit(limit.max()).toList();
+    }
+
+    private static SessionItemRes item(int sessionId, Instant startTime) {
+        return new SessionItemRes(sessionId, startTime, startTime.plusSeconds(1800), null, null, null);
+    }
+}
@@ -0,0 +1,146 @@
+package com.aidredaline.backend.domain.runningsession.service;
+
+import com.aidredaline.backend.domain.runningsession.entity.SessionStatus;
+import com.aidredaline.backend.domain.runningsession.live.ActiveSession;
+import com.aidredaline.backend.domain.runningsession.live.ActiveSessionRegistry;
+import com.aidredaline.backend.domain.runningsession.live.LiveBroadcaster;
+import com.aidredaline.backend.domain.runningsession.repository.RunningSessionRepository;
+import com.aidredaline.backend.domain.runningsession.repository.SessionPauseRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 한 세션에 여러 스레드가 동시에 pause/resume을 요청해도
+ * - DB 전이 1건마다 서비스 호출 1건만 성공 (일시정지 구간도 그만큼만 열고 닫음)
+ * - 끝난 뒤 메모리 상태/version이 DB 행과 같음 (전이 반영 순서가 뒤바뀌어도)
+ * - 상태는 같지만 version이 앞선 행(다른 요청이 pause → resume을 먼저 끝냄)에는 전이하지 않음
+ *
+ * DB는 조건부 UPDATE(상태 + version 비교 후 증가)를 메모리 행으로 흉내 냄
+ * → 실제 SQL(transitionStatus / complete()의 version 검사 저장)과 PostgreSQL 행 잠금은 이 테스트로 검증되지 않음
+ *   (테스트 환경에 PostGIS DB 없음)
+ */
+@ExtendWith(MockitoExtension.class)
+class SessionTransitionStressTest {
+
+    private static final int SESSION_ID = 1;
+    private static final int THREADS_PER_SIDE = 4;
+    private static final int ITERATIONS = 2_000;
+
+    @Mock
+    private RunningSessionRepository sessionRepo;
+
+    @Mock
+    private ActiveSessionRegistry registry;
+
+    @Mock
+    private SessionPauseRepository pauseRepo;
+
+    @Mock
+    private LiveBroadcaster liveBroadcaster;
+
+    @InjectMocks
+    private RunningSessionService service;
+
+    // running_sessions 행 1개 (status, version)
+    private static final class Row {
+        private SessionStatus status = SessionStatus.IN_PROGRESS;
+        private long version;
+        private int updates;
+
+        synchronized int transition(SessionStatus expected, SessionStatus next, long expectedVersion) {
+            if (status != expected || version != expectedVersion) return 0;
+            status = next;
+            version++;
+            updates++;
+            return 1;
+        }
+    }
+
+    @Test
+    void concurrentPauseResumeStayInSyncWithDb() throws Exception {
+        Row row = new Row();
+        ActiveSession active = new ActiveSession(SESSION_ID, 1, null, Instant.now(), SessionStatus.IN_PROGRESS, false);
+        when(registry.getActive(SESSION_ID)).thenReturn(active);
+        when(sessionRepo.transitionStatus(eq(SESSION_ID), any(), any(), anyLong(), any()))
+                .thenAnswer(inv -> row.transition(inv.getArgument(1), inv.getArgument(2), inv.<Long>getArgument(3)));
+
+        AtomicInteger pauses = new AtomicInteger();
+        AtomicInteger resumes = new AtomicInteger();
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS_PER_SIDE * 2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS_PER_SIDE; t++) {
+                futures.add(pool.submit(() -> hammer(start, service::pause, pauses)));
+                futures.add(pool.submit(() -> hammer(start, service::resume, resumes)));
+            }
+            start.countDown();
+            for (Future<?> f : futures) f.get(60, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(pauses.get() + resumes.get()).isEqualTo(row.updates).isPositive();
+        assertThat(pauses.get() - resumes.get()).isEqualTo(row.status == SessionStatus.PAUSED ? 1 : 0);
+        assertThat(active.getStatus()).isEqualTo(row.status);
+        assertThat(active.getVersion()).isEqualTo(row.version);
+        verify(pauseRepo, times(pauses.get())).open(eq(SESSION_ID), any());
+        verify(pauseRepo, times(resumes.get())).close(eq(SESSION_ID), any());
+    }
+
+    @Test
+    void staleVersionIsRejected() {
+        Row row = new Row();
+        ActiveSession active = new ActiveSession(SESSION_ID, 1, null, Instant.now(), SessionStatus.IN_PROGRESS, false);
+        when(registry.getActive(SESSION_ID)).thenReturn(active);
+        when(sessionRepo.transitionStatus(eq(SESSION_ID), any(), any(), anyLong(), any()))
+                .thenAnswer(inv -> row.transition(inv.getArgument(1), inv.getArgument(2), inv.<Long>getArgument(3)));
+
+        // 다른 요청이 pause → resume을 먼저 끝내 상태는 같지만 version이 앞선 경우 (ABA)
+        row.transition(SessionStatus.IN_PROGRESS, SessionStatus.PAUSED, 0);
+        row.transition(SessionStatus.PAUSED, SessionStatus.IN_PROGRESS, 1);
+
+        assertThatThrownBy(() -> service.pause(SESSION_ID)).isInstanceOf(IllegalStateException.class);
+        assertThat(row.status).isEqualTo(SessionStatus.IN_PROGRESS);
+        assertThat(row.version).isEqualTo(2);
+        assertThat(active.getStatus()).isEqualTo(SessionStatus.IN_PROGRESS);
+    }
+
+    private static Void hammer(CountDownLatch start, Consumer<Integer> action, AtomicInteger successes)
+            throws InterruptedException {
+        start.await();
+        for (int i = 0; i < ITERATIONS; i++) {
+            try {
+                action.accept(SESSION_ID);
+                successes.incrementAndGet();
+            } catch (IllegalStateException e) {
+                // 다른 스레드가 먼저 전이 → 정상 거부
+            }
+        }
+        return null;
+    }
+}